@@ -0,0 +1,97 @@
+package net.IneiTsuki.temperaturem.gametest;
+
+import net.IneiTsuki.temperaturem.player.PlayerTemperatureManager;
+import net.IneiTsuki.temperaturem.profiling.TemperatureProfiler;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.GameTestException;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Fails when the steady-state player tick path allocates. Allocation over every
+ * END_SERVER_TICK listener is measured with the players ticked and again, as a
+ * baseline, with them taken out of the player list, so Fabric's listeners and the
+ * mod's per-world ticks cancel out. Part of the players keep walking in and out of
+ * zones and heat so the sync packet and zone membership paths run too.
+ */
+public class AllocationRegressionTest implements FabricGameTest {
+
+    private static final int PLAYERS = 32;
+    private static final int MOVER_SHARE = 2; // Every 2nd player walks back and forth
+    private static final int MOVE_INTERVAL = 40;
+    private static final int WARMUP_TICKS = 200;
+    private static final int MEASURED_TICKS = 400;
+    private static final int BASELINE_WARMUP_TICKS = 20;
+    private static final int BASELINE_TICKS = 400;
+
+    // Vanilla's cost of re-adding a status effect (the instance, attribute modifiers and
+    // the effect packet), allowed per refresh the mod counted rather than per tick
+    private static final long BYTES_PER_EFFECT_REFRESH = 1024;
+
+    // What may remain per player and tick. Not 0 because the climate frame, built once
+    // per world and tick while anyone is evaluated, is spread over the players
+    private static final double MAX_BYTES_PER_PLAYER_TICK = 4;
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "allocation",
+            tickLimit = WARMUP_TICKS + MEASURED_TICKS + BASELINE_WARMUP_TICKS + BASELINE_TICKS + 20)
+    public void steadyStateAllocation(TestContext context) {
+        ServerWorld world = context.getWorld();
+        BlockPos origin = context.getAbsolutePos(BlockPos.ORIGIN);
+
+        TestPopulation population = TestPopulation.spawn(world, null, origin, PLAYERS, 0);
+        population.addMovers(MOVER_SHARE);
+        for (int tick = MOVE_INTERVAL; tick < WARMUP_TICKS + MEASURED_TICKS; tick += MOVE_INTERVAL) {
+            context.runAtTick(tick, population::toggleMovers);
+        }
+
+        TickCostRecorder loaded = TickCostRecorder.start(WARMUP_TICKS + MEASURED_TICKS);
+        long[] before = new long[2];
+        context.runAtTick(WARMUP_TICKS, () -> {
+            before[0] = PlayerTemperatureManager.getPacketsSent();
+            before[1] = TemperatureProfiler.getTotal(TemperatureProfiler.Counter.EFFECT_APPLICATIONS);
+        });
+
+        long[] loadedResult = new long[4];
+        context.runAtTick(WARMUP_TICKS + MEASURED_TICKS, () -> {
+            loaded.stop();
+            loadedResult[0] = loaded.getTotalAllocatedBytes(WARMUP_TICKS);
+            loadedResult[1] = loaded.getSampleCount() - WARMUP_TICKS;
+            loadedResult[2] = PlayerTemperatureManager.getPacketsSent() - before[0];
+            loadedResult[3] = TemperatureProfiler.getTotal(TemperatureProfiler.Counter.EFFECT_APPLICATIONS)
+                    - before[1];
+            population.setTicked(false);
+        });
+
+        TickCostRecorder[] baseline = new TickCostRecorder[1];
+        context.runAtTick(WARMUP_TICKS + MEASURED_TICKS + 1, () ->
+                baseline[0] = TickCostRecorder.start(BASELINE_WARMUP_TICKS + BASELINE_TICKS));
+
+        context.runAtTick(WARMUP_TICKS + MEASURED_TICKS + BASELINE_WARMUP_TICKS + BASELINE_TICKS + 2, () -> {
+            baseline[0].stop();
+            population.remove();
+
+            long measured = loadedResult[1];
+            int baselineMeasured = baseline[0].getSampleCount() - BASELINE_WARMUP_TICKS;
+            if (measured <= 0 || baselineMeasured <= 0) {
+                throw new GameTestException("No ticks were recorded after warmup");
+            }
+            if (loadedResult[2] == 0) {
+                throw new GameTestException("No temperature was synced, the packet path was not exercised");
+            }
+
+            double loadedPerTick = (loadedResult[0] - loadedResult[3] * BYTES_PER_EFFECT_REFRESH) / (double) measured;
+            double baselinePerTick = baseline[0].getTotalAllocatedBytes(BASELINE_WARMUP_TICKS)
+                    / (double) baselineMeasured;
+            double perPlayerTick = (loadedPerTick - baselinePerTick) / PLAYERS;
+            if (perPlayerTick > MAX_BYTES_PER_PLAYER_TICK) {
+                throw new GameTestException(String.format(
+                        "Player tick path allocated %.1f bytes per player per tick over the baseline "
+                                + "(%d effect refreshes allowed for), budget is %.1f",
+                        perPlayerTick, loadedResult[3], MAX_BYTES_PER_PLAYER_TICK));
+            }
+            context.complete();
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package net.IneiTsuki.temperaturem.gametest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.IneiTsuki.temperaturem.player.PlayerTemperatureManager;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Load harness: spreads fake players over the overworld, the Nether and zone
+ * covered areas, runs the server for a number of ticks and writes a JSON report
+ * of the mod's END_SERVER_TICK cost.
+ * <p>
+ * Configure with {@code -Dtemperaturem.loadtest.players}, {@code .ticks} and {@code .report}.
+ */
+public class LoadHarnessTest implements FabricGameTest {
+
+    private static final int MAX_TICKS = 20000;
+    private static final int PLAYERS = Integer.getInteger("temperaturem.loadtest.players", 200);
+    private static final int TICKS = Math.min(MAX_TICKS, Integer.getInteger("temperaturem.loadtest.ticks", 600));
+    private static final String REPORT_PATH = System.getProperty("temperaturem.loadtest.report",
+            "temperaturem-load-report.json");
+
+    private static final int NETHER_SHARE = 4; // Every 4th player goes to the Nether
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "load", tickLimit = MAX_TICKS + 100)
+    public void temperatureLoad(TestContext context) {
+        ServerWorld overworld = context.getWorld();
+        ServerWorld nether = overworld.getServer().getWorld(World.NETHER);
+        BlockPos origin = context.getAbsolutePos(BlockPos.ORIGIN);
+
+        TestPopulation population = TestPopulation.spawn(overworld, nether, origin, PLAYERS, NETHER_SHARE);
+        long packetsBefore = PlayerTemperatureManager.getPacketsSent();
+        TickCostRecorder recorder = TickCostRecorder.start(TICKS);
+
+        context.runAtTick(TICKS + 1, () -> {
+            recorder.stop();
+            long packets = PlayerTemperatureManager.getPacketsSent() - packetsBefore;
+            population.remove();
+
+            writeReport(recorder, population, packets);
+            context.complete();
+        });
+    }
+
+    private static void writeReport(TickCostRecorder recorder, TestPopulation population, long packets) {
+        int ticks = recorder.getSampleCount();
+        int players = population.getPlayerCount();
+
+        JsonObject tickMillis = new JsonObject();
+        tickMillis.addProperty("mean", recorder.getMeanMillis());
+        tickMillis.addProperty("p50", recorder.getPercentileMillis(50));
+        tickMillis.addProperty("p99", recorder.getPercentileMillis(99));
+        tickMillis.addProperty("max", recorder.getPercentileMillis(100));
+
+        JsonObject report = new JsonObject();
+        report.addProperty("players", players);
+        report.addProperty("netherPlayers", population.getNetherPlayerCount());
+        report.addProperty("zones", population.getZoneCount());
+        report.addProperty("ticks", ticks);
+        report.add("tickMillis", tickMillis);
+        report.addProperty("packetsSent", packets);
+        report.addProperty("packetsPerTick", ticks > 0 ? packets / (double) ticks : 0);
+        long allocated = recorder.getTotalAllocatedBytes(0);
+        report.addProperty("allocatedBytes", allocated);
+        report.addProperty("allocatedBytesPerTick", ticks > 0 ? allocated / (double) ticks : 0);
+        report.addProperty("allocatedBytesPerPlayerTick",
+                ticks > 0 && players > 0 ? allocated / (double) ticks / players : 0);
+
+        File file = new File(REPORT_PATH);
+        try (FileWriter writer = new FileWriter(file, StandardCharsets.UTF_8)) {
+            GSON.toJson(report, writer);
+            Temperaturem.LOGGER.info("Wrote load test report to {}", file.getAbsolutePath());
+        } catch (IOException e) {
+            Temperaturem.LOGGER.error("Failed to write load test report", e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package net.IneiTsuki.temperaturem.gametest;
+
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.IneiTsuki.temperaturem.config.MobTemperatureConfig;
+import net.IneiTsuki.temperaturem.mobs.MobTemperatureManager;
+import net.IneiTsuki.temperaturem.profiling.LatencyHistogram;
+import net.IneiTsuki.temperaturem.profiling.TemperatureProfiler;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.passive.CowEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.GameTestException;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.GameRules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A mob farm: a few thousand tracked cows packed into a pen next to a player. Checks
+ * that no tick updates more mobs than {@code updateBudget}, that every mob still gets
+ * its turns, and that the manager's tick stays cheap however many mobs are tracked.
+ */
+public class MobFarmCostTest implements FabricGameTest {
+
+    private static final int MOBS = 3000;
+    private static final int PEN_SIZE = 16; // Blocks per side, about 12 mobs per block
+    private static final int UPDATE_BUDGET = 256;
+    private static final int WARMUP_TICKS = 100;
+    private static final int MEASURED_TICKS = 200;
+
+    // Mean time of the manager's world tick, generous so slow CI machines pass
+    private static final double MAX_MEAN_TICK_MILLIS = 2.0;
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "mobs", tickLimit = WARMUP_TICKS + MEASURED_TICKS + 20)
+    public void mobFarmStaysWithinBudget(TestContext context) {
+        ServerWorld world = context.getWorld();
+        BlockPos origin = context.getAbsolutePos(BlockPos.ORIGIN);
+
+        MobTemperatureConfig previousConfig = Temperaturem.getMobConfig();
+        MobTemperatureConfig config = new MobTemperatureConfig();
+        config.enabled = true;
+        config.updateBudget = UPDATE_BUDGET;
+        Temperaturem.setMobConfig(config);
+        MobTemperatureManager.compileTrackedTypes();
+
+        // Packed like a farm, vanilla would otherwise kill most of them by cramming
+        GameRules.IntRule cramming = world.getGameRules().get(GameRules.MAX_ENTITY_CRAMMING);
+        int previousCramming = cramming.get();
+        cramming.set(0, world.getServer());
+
+        List<CowEntity> cows = new ArrayList<>(MOBS);
+        for (int i = 0; i < MOBS; i++) {
+            CowEntity cow = EntityType.COW.create(world);
+            if (cow == null) {
+                throw new GameTestException("Could not create a cow");
+            }
+            int x = origin.getX() + i % PEN_SIZE;
+            int z = origin.getZ() + i / PEN_SIZE % PEN_SIZE;
+            cow.refreshPositionAndAngles(x + 0.5, origin.getY() + 1, z + 0.5, 0, 0);
+            cow.setAiDisabled(true);
+            world.spawnEntity(cow);
+            cows.add(cow);
+        }
+
+        PlayerEntity player = context.createMockCreativeServerPlayerInWorld();
+        player.refreshPositionAndAngles(origin.getX() + PEN_SIZE / 2.0, origin.getY() + 1,
+                origin.getZ() + PEN_SIZE / 2.0, 0, 0);
+
+        long[] updates = new long[MEASURED_TICKS + 1];
+        context.runAtTick(WARMUP_TICKS, TemperatureProfiler::begin);
+        for (int tick = 0; tick <= MEASURED_TICKS; tick++) {
+            int sample = tick;
+            context.runAtTick(WARMUP_TICKS + tick, () ->
+                    updates[sample] = TemperatureProfiler.getTotal(TemperatureProfiler.Counter.MOB_UPDATES));
+        }
+
+        context.runAtTick(WARMUP_TICKS + MEASURED_TICKS + 1, () -> {
+            TemperatureProfiler.stop();
+            TemperatureProfiler.WorldProfile profile = TemperatureProfiler.getProfiles().get(world.getRegistryKey());
+            MobTemperatureManager manager = MobTemperatureManager.get(world);
+            int tracked = manager.getTrackedCount();
+            int withTemperature = 0;
+            for (CowEntity cow : cows) {
+                if (manager.getTemperature(cow) != null) withTemperature++;
+            }
+
+            for (CowEntity cow : cows) {
+                cow.discard();
+            }
+            if (player instanceof ServerPlayerEntity serverPlayer) {
+                world.getServer().getPlayerManager().remove(serverPlayer);
+            }
+            cramming.set(previousCramming, world.getServer());
+            Temperaturem.setMobConfig(previousConfig);
+            MobTemperatureManager.compileTrackedTypes();
+
+            if (tracked < MOBS) {
+                throw new GameTestException("Only " + tracked + " of " + MOBS + " mobs were tracked");
+            }
+
+            long maxUpdates = 0;
+            for (int tick = 1; tick <= MEASURED_TICKS; tick++) {
+                maxUpdates = Math.max(maxUpdates, updates[tick] - updates[tick - 1]);
+            }
+            if (maxUpdates > UPDATE_BUDGET) {
+                throw new GameTestException("A tick updated " + maxUpdates + " mobs, budget is " + UPDATE_BUDGET);
+            }
+
+            // The round-robin reaches every mob within MOBS / UPDATE_BUDGET ticks
+            if (withTemperature < MOBS) {
+                throw new GameTestException("Only " + withTemperature + " of " + MOBS + " mobs were updated");
+            }
+
+            LatencyHistogram ticks = profile != null ? profile.getHistogram(TemperatureProfiler.Phase.MOB_TICK) : null;
+            if (ticks == null || ticks.getTotalCount() == 0) {
+                throw new GameTestException("No mob ticks were profiled");
+            }
+            double meanMillis = ticks.getMean() / 1_000_000.0;
+            if (meanMillis > MAX_MEAN_TICK_MILLIS) {
+                throw new GameTestException(String.format("Mob tick took %.3f ms on average for %d mobs, limit is %.1f",
+                        meanMillis, tracked, MAX_MEAN_TICK_MILLIS));
+            }
+            context.complete();
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package net.IneiTsuki.temperaturem.gametest;
+
+import net.IneiTsuki.temperaturem.util.TemperatureField;
+import net.IneiTsuki.temperaturem.util.TemperatureUtil;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.block.Blocks;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.GameTestException;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+
+/**
+ * Checks that a temperature field gives the same temperature as a point query for
+ * every block it covers, around hot and cold sources, a block that is only hot through
+ * its table entry (an unlit furnace) and a wall that occludes some of them.
+ */
+public class TemperatureFieldTest implements FabricGameTest {
+
+    private static final int SIZE_X = 10;
+    private static final int SIZE_Y = 5;
+    private static final int SIZE_Z = 10;
+
+    // Fields are floats, point queries doubles summed in another order
+    private static final double TOLERANCE = 1.0e-3;
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "field")
+    public void fieldMatchesPointQueries(TestContext context) {
+        context.setBlockState(new BlockPos(2, 1, 2), Blocks.LAVA);
+        context.setBlockState(new BlockPos(7, 1, 3), Blocks.MAGMA_BLOCK);
+        context.setBlockState(new BlockPos(3, 1, 7), Blocks.CAMPFIRE);
+        context.setBlockState(new BlockPos(8, 1, 8), Blocks.FURNACE);
+        context.setBlockState(new BlockPos(5, 2, 1), Blocks.PACKED_ICE);
+        for (int y = 1; y <= 3; y++) {
+            for (int z = 3; z <= 6; z++) {
+                context.setBlockState(new BlockPos(5, y, z), Blocks.STONE);
+            }
+        }
+
+        ServerWorld world = context.getWorld();
+        BlockPos min = context.getAbsolutePos(BlockPos.ORIGIN);
+        Box box = new Box(min.getX(), min.getY(), min.getZ(),
+                min.getX() + SIZE_X, min.getY() + SIZE_Y, min.getZ() + SIZE_Z);
+        float[] field = TemperatureField.compute(world, box);
+
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        int cell = 0;
+        for (int y = 0; y < SIZE_Y; y++) {
+            for (int z = 0; z < SIZE_Z; z++) {
+                for (int x = 0; x < SIZE_X; x++, cell++) {
+                    pos.set(min.getX() + x, min.getY() + y, min.getZ() + z);
+                    double expected = TemperatureUtil.getTargetTemperature(world, pos);
+                    if (Math.abs(field[cell] - expected) > TOLERANCE) {
+                        throw new GameTestException(String.format(
+                                "Field gave %.4f at %s, point query %.4f", field[cell], pos.toShortString(), expected));
+                    }
+                }
+            }
+        }
+        context.complete();
+    }
+}
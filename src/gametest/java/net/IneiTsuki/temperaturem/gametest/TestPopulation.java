@@ -0,0 +1,169 @@
+package net.IneiTsuki.temperaturem.gametest;
+
+import com.mojang.authlib.GameProfile;
+import net.IneiTsuki.temperaturem.player.PlayerTemperatureManager;
+import net.IneiTsuki.temperaturem.zones.TemperatureZone;
+import net.IneiTsuki.temperaturem.zones.TemperatureZoneManager;
+import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.minecraft.block.Blocks;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.Heightmap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fake players laid out on a grid around a test, with the zones, heat sources and
+ * forced chunks they need. The mod ticks everything in the server's player list,
+ * so the players are added there until {@link #remove()}.
+ */
+final class TestPopulation {
+
+    private static final int SPACING = 24; // Blocks between players
+    private static final int ZONE_SHARE = 3; // Every 3rd overworld player stands in a zone
+    private static final int HEAT_SHARE = 5; // Every 5th overworld player stands next to lava
+    private static final int MOVE_OFFSET = 12; // Blocks east of its spawn a mover walks to, outside its zone
+
+    private final MinecraftServer server;
+    private final ServerWorld overworld;
+    private final List<ServerPlayerEntity> players = new ArrayList<>();
+    private final List<TemperatureZone> zones = new ArrayList<>();
+    private final List<ServerWorld> forcedWorlds = new ArrayList<>();
+    private final List<ChunkPos> forcedChunks = new ArrayList<>();
+    private final List<ServerPlayerEntity> movers = new ArrayList<>();
+    private final List<Vec3d> moverHomes = new ArrayList<>();
+    private final List<Vec3d> moverAways = new ArrayList<>();
+    private boolean moversAway = false;
+    private int netherPlayers = 0;
+
+    private TestPopulation(ServerWorld overworld) {
+        this.server = overworld.getServer();
+        this.overworld = overworld;
+    }
+
+    /**
+     * Spawns players around an origin. Every {@code netherShare}-th player goes to the
+     * Nether when it exists, 0 keeps everyone in the overworld.
+     */
+    static TestPopulation spawn(ServerWorld overworld, ServerWorld nether, BlockPos origin,
+                                int count, int netherShare) {
+        TestPopulation population = new TestPopulation(overworld);
+
+        int side = (int) Math.ceil(Math.sqrt(count));
+        for (int i = 0; i < count; i++) {
+            int x = origin.getX() + (i % side - side / 2) * SPACING;
+            int z = origin.getZ() + (i / side - side / 2) * SPACING;
+            boolean inNether = nether != null && netherShare > 0 && i % netherShare == 0;
+            ServerWorld world = inNether ? nether : overworld;
+
+            world.getChunk(x >> 4, z >> 4);
+            world.setChunkForced(x >> 4, z >> 4, true);
+            population.forcedWorlds.add(world);
+            population.forcedChunks.add(new ChunkPos(x >> 4, z >> 4));
+
+            BlockPos pos;
+            if (inNether) {
+                pos = new BlockPos(x, 64, z);
+                population.netherPlayers++;
+            } else {
+                pos = new BlockPos(x, world.getTopY(Heightmap.Type.MOTION_BLOCKING, x, z), z);
+
+                if (i % ZONE_SHARE == 0) {
+                    TemperatureZone.ZoneType type = TemperatureZone.ZoneType.values()[i % 3];
+                    population.zones.add(TemperatureZoneManager.get(world).createZone("test-" + i,
+                            new Box(pos).expand(8), type == TemperatureZone.ZoneType.MULTIPLIER ? 150 : 30, type));
+                }
+                if (i % HEAT_SHARE == 0) {
+                    world.setBlockState(pos.add(2, -1, 0), Blocks.LAVA.getDefaultState());
+                    world.setBlockState(pos.add(-2, 0, 1), Blocks.CAMPFIRE.getDefaultState());
+                }
+            }
+
+            UUID id = UUID.nameUUIDFromBytes(("temperaturem-test-" + i).getBytes(StandardCharsets.UTF_8));
+            ServerPlayerEntity player = FakePlayer.get(world, new GameProfile(id, "tm_test_" + i));
+            player.refreshPositionAndAngles(pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5, 0, 0);
+            population.players.add(player);
+        }
+
+        population.server.getPlayerManager().getPlayerList().addAll(population.players);
+        return population;
+    }
+
+    /**
+     * Makes every {@code share}-th overworld player a mover, which {@link #toggleMovers()}
+     * walks between its spawn point and a spot outside its zone and away from its heat
+     * sources, so its temperature and zone membership keep changing.
+     */
+    void addMovers(int share) {
+        for (int i = 0; i < players.size(); i += share) {
+            ServerPlayerEntity player = players.get(i);
+            if (player.getServerWorld() != overworld) continue;
+
+            int x = player.getBlockX() + MOVE_OFFSET;
+            int z = player.getBlockZ();
+            overworld.getChunk(x >> 4, z >> 4);
+            overworld.setChunkForced(x >> 4, z >> 4, true);
+            forcedWorlds.add(overworld);
+            forcedChunks.add(new ChunkPos(x >> 4, z >> 4));
+
+            movers.add(player);
+            moverHomes.add(player.getPos());
+            moverAways.add(new Vec3d(x + 0.5, overworld.getTopY(Heightmap.Type.MOTION_BLOCKING, x, z), z + 0.5));
+        }
+    }
+
+    void toggleMovers() {
+        moversAway = !moversAway;
+        List<Vec3d> targets = moversAway ? moverAways : moverHomes;
+        for (int i = 0; i < movers.size(); i++) {
+            Vec3d target = targets.get(i);
+            movers.get(i).refreshPositionAndAngles(target.x, target.y, target.z, 0, 0);
+        }
+    }
+
+    /**
+     * Takes the players out of the server's player list, or puts them back, so the
+     * mod stops or resumes ticking them while everything else stays in place.
+     */
+    void setTicked(boolean ticked) {
+        List<ServerPlayerEntity> list = server.getPlayerManager().getPlayerList();
+        list.removeAll(players);
+        if (ticked) {
+            list.addAll(players);
+        }
+    }
+
+    void remove() {
+        server.getPlayerManager().getPlayerList().removeAll(players);
+        for (ServerPlayerEntity player : players) {
+            PlayerTemperatureManager.remove(player.getUuid());
+        }
+        for (TemperatureZone zone : zones) {
+            TemperatureZoneManager.get(overworld).removeZone(zone.getId());
+        }
+        for (int i = 0; i < forcedChunks.size(); i++) {
+            ChunkPos pos = forcedChunks.get(i);
+            forcedWorlds.get(i).setChunkForced(pos.x, pos.z, false);
+        }
+    }
+
+    int getPlayerCount() {
+        return players.size();
+    }
+
+    int getNetherPlayerCount() {
+        return netherPlayers;
+    }
+
+    int getZoneCount() {
+        return zones.size();
+    }
+}
@@ -0,0 +1,111 @@
+package net.IneiTsuki.temperaturem.gametest;
+
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.util.Identifier;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Measures the time and memory spent in END_SERVER_TICK listeners. Listeners in
+ * phases ordered before and after the default phase bracket every handler the mod
+ * registers, without changing how the mod registers them.
+ */
+public final class TickCostRecorder {
+
+    private static final Identifier BEFORE = new Identifier("temperaturem-gametest", "before");
+    private static final Identifier AFTER = new Identifier("temperaturem-gametest", "after");
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static boolean registered = false;
+    private static TickCostRecorder active;
+
+    private final long[] tickNanos;
+    private final long[] tickBytes;
+    private int samples = 0;
+    private long startNanos;
+    private long startBytes;
+
+    private TickCostRecorder(int capacity) {
+        this.tickNanos = new long[capacity];
+        this.tickBytes = new long[capacity];
+    }
+
+    /**
+     * Starts recording up to {@code capacity} ticks. Only one recorder is active at a
+     * time, so tests using it run in separate batches.
+     */
+    public static TickCostRecorder start(int capacity) {
+        if (!registered) {
+            ServerTickEvents.END_SERVER_TICK.addPhaseOrdering(BEFORE, Event.DEFAULT_PHASE);
+            ServerTickEvents.END_SERVER_TICK.addPhaseOrdering(Event.DEFAULT_PHASE, AFTER);
+            ServerTickEvents.END_SERVER_TICK.register(BEFORE, server -> {
+                if (active != null) active.begin();
+            });
+            ServerTickEvents.END_SERVER_TICK.register(AFTER, server -> {
+                if (active != null) active.end();
+            });
+            registered = true;
+        }
+
+        active = new TickCostRecorder(capacity);
+        return active;
+    }
+
+    public void stop() {
+        if (active == this) {
+            active = null;
+        }
+    }
+
+    private void begin() {
+        startBytes = THREADS.getCurrentThreadAllocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    private void end() {
+        long nanos = System.nanoTime() - startNanos;
+        long bytes = THREADS.getCurrentThreadAllocatedBytes() - startBytes;
+        if (samples < tickNanos.length) {
+            tickNanos[samples] = nanos;
+            tickBytes[samples] = bytes;
+            samples++;
+        }
+    }
+
+    // ===== Results =====
+
+    public int getSampleCount() {
+        return samples;
+    }
+
+    /**
+     * Gets a percentile (0-100) of the recorded tick times in milliseconds.
+     */
+    public double getPercentileMillis(double percentile) {
+        if (samples == 0) return 0;
+        long[] sorted = Arrays.copyOf(tickNanos, samples);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * samples) - 1;
+        return sorted[Math.max(0, Math.min(samples - 1, index))] / 1_000_000.0;
+    }
+
+    public double getMeanMillis() {
+        if (samples == 0) return 0;
+        long total = 0;
+        for (int i = 0; i < samples; i++) total += tickNanos[i];
+        return total / (double) samples / 1_000_000.0;
+    }
+
+    /**
+     * Gets the bytes allocated over all recorded ticks after the first {@code skip}.
+     */
+    public long getTotalAllocatedBytes(int skip) {
+        long total = 0;
+        for (int i = skip; i < samples; i++) total += tickBytes[i];
+        return total;
+    }
+}
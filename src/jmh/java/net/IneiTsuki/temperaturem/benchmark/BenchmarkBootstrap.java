@@ -0,0 +1,33 @@
+package net.IneiTsuki.temperaturem.benchmark;
+
+import net.IneiTsuki.temperaturem.data.TemperatureRegistry;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.util.profiler.DummyProfiler;
+
+/**
+ * Initializes the vanilla registries and the block temperature table outside of a
+ * running game. Benchmarks run on a plain JVM, so mixins and Fabric entrypoints are
+ * not applied.
+ */
+final class BenchmarkBootstrap {
+
+    private static boolean initialized = false;
+
+    private BenchmarkBootstrap() {
+    }
+
+    static synchronized void init() {
+        if (initialized) return;
+
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+
+        // Loads the bundled block table, creating the default config in the working directory
+        TemperatureRegistry registry = new TemperatureRegistry();
+        registry.load(null, DummyProfiler.INSTANCE, Runnable::run)
+                .thenCompose(data -> registry.apply(data, null, DummyProfiler.INSTANCE, Runnable::run))
+                .join();
+        initialized = true;
+    }
+}
@@ -0,0 +1,61 @@
+package net.IneiTsuki.temperaturem.benchmark;
+
+import net.IneiTsuki.temperaturem.cache.ChunkTemperatureCache;
+import net.IneiTsuki.temperaturem.cache.SectionThermalData;
+import net.IneiTsuki.temperaturem.util.TemperatureUtil;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.ChunkSection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Block heat influence over a warm heat index, plus the cost of building the
+ * index for one section.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockInfluenceBenchmark {
+
+    private static final int POSITIONS = 256; // Power of two
+
+    @Param({"EMPTY", "NETHER", "LAVA_LAKE"})
+    public SyntheticSectionSource.Scenario scenario;
+
+    private ChunkTemperatureCache cache;
+    private ChunkSection section;
+    private BlockPos[] positions;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.init();
+
+        SyntheticSectionSource source = SyntheticSectionSource.create(scenario);
+        cache = ChunkTemperatureCache.detached(source);
+        positions = source.samplePositions(POSITIONS, 42L);
+
+        BlockPos first = positions[0];
+        section = source.getSection(first.getX() >> 4, first.getY() >> 4, first.getZ() >> 4);
+
+        // Build every section and pyramid region the measured calls will touch
+        for (BlockPos pos : positions) {
+            TemperatureUtil.getNearbyBlockInfluence(cache, pos);
+        }
+    }
+
+    @Benchmark
+    public double nearbyBlockInfluence() {
+        BlockPos pos = positions[next++ & (POSITIONS - 1)];
+        return TemperatureUtil.getNearbyBlockInfluence(cache, pos);
+    }
+
+    @Benchmark
+    public SectionThermalData buildSection() {
+        return SectionThermalData.build(section);
+    }
+}
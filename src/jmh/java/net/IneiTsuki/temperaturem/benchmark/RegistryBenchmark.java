@@ -0,0 +1,52 @@
+package net.IneiTsuki.temperaturem.benchmark;
+
+import net.IneiTsuki.temperaturem.data.TemperatureRegistry;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Block temperature lookups for a mix of registered and unregistered states.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistryBenchmark {
+
+    private BlockState[] states;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.init();
+
+        states = new BlockState[]{
+                Blocks.STONE.getDefaultState(),
+                Blocks.AIR.getDefaultState(),
+                Blocks.NETHERRACK.getDefaultState(),
+                Blocks.LAVA.getDefaultState(),
+                Blocks.DIRT.getDefaultState(),
+                Blocks.CAMPFIRE.getDefaultState(),
+                Blocks.GRASS_BLOCK.getDefaultState(),
+                Blocks.WATER.getDefaultState(),
+                Blocks.OAK_PLANKS.getDefaultState(),
+                Blocks.TORCH.getDefaultState(),
+                Blocks.DEEPSLATE.getDefaultState(),
+                Blocks.BLUE_ICE.getDefaultState(),
+                Blocks.SAND.getDefaultState(),
+                Blocks.FURNACE.getDefaultState(),
+                Blocks.GRAVEL.getDefaultState(),
+                Blocks.MAGMA_BLOCK.getDefaultState()
+        };
+    }
+
+    @Benchmark
+    public int getTemperature() {
+        return TemperatureRegistry.getTemperature(states[next++ & (states.length - 1)]);
+    }
+}
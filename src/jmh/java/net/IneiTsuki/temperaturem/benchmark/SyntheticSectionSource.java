@@ -0,0 +1,136 @@
+package net.IneiTsuki.temperaturem.benchmark;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.IneiTsuki.temperaturem.cache.SectionSource;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+
+import java.util.Random;
+
+/**
+ * Stand-in for a loaded world: a square of generated chunk sections that the heat
+ * index and heat pyramid can read. Chunks outside the square read as unloaded.
+ */
+public class SyntheticSectionSource implements SectionSource {
+
+    public static final int SIZE_CHUNKS = 8;
+    private static final int BOTTOM_Y = 0;
+    private static final int HEIGHT = 128;
+
+    private final Long2ObjectOpenHashMap<ChunkSection> sections = new Long2ObjectOpenHashMap<>();
+    private final Scenario scenario;
+
+    private SyntheticSectionSource(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public static SyntheticSectionSource create(Scenario scenario) {
+        SyntheticSectionSource source = new SyntheticSectionSource(scenario);
+        for (int sx = 0; sx < SIZE_CHUNKS; sx++) {
+            for (int sz = 0; sz < SIZE_CHUNKS; sz++) {
+                for (int sy = source.getBottomSectionCoord(); sy < source.getTopSectionCoord(); sy++) {
+                    source.sections.put(ChunkSectionPos.asLong(sx, sy, sz), source.generate(sx, sy, sz));
+                }
+            }
+        }
+        return source;
+    }
+
+    private ChunkSection generate(int sectionX, int sectionY, int sectionZ) {
+        PalettedContainer<BlockState> states = new PalettedContainer<>(Block.STATE_IDS,
+                Blocks.AIR.getDefaultState(), PalettedContainer.PaletteProvider.BLOCK_STATE);
+        // Biomes are never read from synthetic sections
+        ChunkSection section = new ChunkSection(sectionY, states, null);
+
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    BlockState state = scenario.getBlockState(
+                            (sectionX << 4) + x, (sectionY << 4) + y, (sectionZ << 4) + z);
+                    if (!state.isAir()) {
+                        section.setBlockState(x, y, z, state, false);
+                    }
+                }
+            }
+        }
+        return section;
+    }
+
+    /**
+     * Picks standing positions away from the edges of the generated area.
+     */
+    public BlockPos[] samplePositions(int count, long seed) {
+        Random random = new Random(seed);
+        int margin = 32;
+        int span = SIZE_CHUNKS * 16 - margin * 2;
+
+        BlockPos[] positions = new BlockPos[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = new BlockPos(margin + random.nextInt(span), scenario.standingY,
+                    margin + random.nextInt(span));
+        }
+        return positions;
+    }
+
+    @Override
+    public ChunkSection getSection(int sectionX, int sectionY, int sectionZ) {
+        return sections.get(ChunkSectionPos.asLong(sectionX, sectionY, sectionZ));
+    }
+
+    @Override
+    public int getHeight() {
+        return HEIGHT;
+    }
+
+    @Override
+    public int getBottomY() {
+        return BOTTOM_Y;
+    }
+
+    // ===== Scenarios =====
+
+    public enum Scenario {
+        // Stone ground and open air, no heat sources at all
+        EMPTY(65) {
+            @Override
+            BlockState getBlockState(int x, int y, int z) {
+                return y < 64 ? Blocks.STONE.getDefaultState() : Blocks.AIR.getDefaultState();
+            }
+        },
+
+        // Solid netherrack with carved tunnels over a lava sea, every block is a source
+        NETHER(40) {
+            @Override
+            BlockState getBlockState(int x, int y, int z) {
+                if (y < 32) return Blocks.LAVA.getDefaultState();
+                if (y < 48 && ((x >> 2) + (z >> 2)) % 3 != 0) return Blocks.AIR.getDefaultState();
+                return Blocks.NETHERRACK.getDefaultState();
+            }
+        },
+
+        // Stone ground with a wide lava lake, sources spread far beyond the scan window
+        LAVA_LAKE(65) {
+            @Override
+            BlockState getBlockState(int x, int y, int z) {
+                if (y >= 64) return Blocks.AIR.getDefaultState();
+                int dx = x - SIZE_CHUNKS * 8;
+                int dz = z - SIZE_CHUNKS * 8;
+                if (y >= 60 && dx * dx + dz * dz < 24 * 24) return Blocks.LAVA.getDefaultState();
+                return Blocks.STONE.getDefaultState();
+            }
+        };
+
+        private final int standingY;
+
+        Scenario(int standingY) {
+            this.standingY = standingY;
+        }
+
+        abstract BlockState getBlockState(int x, int y, int z);
+    }
+}
@@ -0,0 +1,66 @@
+package net.IneiTsuki.temperaturem.benchmark;
+
+import net.IneiTsuki.temperaturem.zones.TemperatureZone;
+import net.IneiTsuki.temperaturem.zones.TemperatureZoneManager;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zone lookups with increasingly many overlapping zones. The manager is not
+ * attached to a world, which zone queries never touch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZoneLookupBenchmark {
+
+    private static final int AREA = 512;
+    private static final int POSITIONS = 4096; // Power of two
+
+    @Param({"0", "16", "256"})
+    public int zoneCount;
+
+    private TemperatureZoneManager manager;
+    private BlockPos[] positions;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.init();
+
+        Random random = new Random(42L);
+        manager = new TemperatureZoneManager(null);
+        TemperatureZone.ZoneType[] types = TemperatureZone.ZoneType.values();
+        for (int i = 0; i < zoneCount; i++) {
+            int x = random.nextInt(AREA), y = 40 + random.nextInt(40), z = random.nextInt(AREA);
+            int size = 16 + random.nextInt(48);
+            TemperatureZone zone = manager.createZone("zone" + i,
+                    new Box(x, y, z, x + size, y + size / 2, z + size),
+                    random.nextInt(60) - 20, types[random.nextInt(types.length)]);
+            zone.setPriority(random.nextInt(4));
+        }
+
+        positions = new BlockPos[POSITIONS];
+        for (int i = 0; i < POSITIONS; i++) {
+            positions[i] = new BlockPos(random.nextInt(AREA), 40 + random.nextInt(40), random.nextInt(AREA));
+        }
+    }
+
+    @Benchmark
+    public List<TemperatureZone> getZonesAt() {
+        return manager.getZonesAt(positions[next++ & (POSITIONS - 1)]);
+    }
+
+    @Benchmark
+    public Double getZoneTemperatureAt() {
+        return manager.getZoneTemperatureAt(positions[next++ & (POSITIONS - 1)]);
+    }
+}
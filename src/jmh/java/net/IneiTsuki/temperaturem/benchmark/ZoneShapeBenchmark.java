@@ -0,0 +1,86 @@
+package net.IneiTsuki.temperaturem.benchmark;
+
+import net.IneiTsuki.temperaturem.zones.BoxShape;
+import net.IneiTsuki.temperaturem.zones.CylinderShape;
+import net.IneiTsuki.temperaturem.zones.PolygonShape;
+import net.IneiTsuki.temperaturem.zones.SphereShape;
+import net.IneiTsuki.temperaturem.zones.ZoneShape;
+import net.minecraft.util.math.Box;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Containment and signed distance for each zone shape, with query points spread over
+ * the shape's bounds grown by a margin so about half of them fall outside. The polygon
+ * is a 32-vertex star, concave on purpose.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZoneShapeBenchmark {
+
+    private static final int POSITIONS = 4096; // Power of two
+    private static final double MARGIN = 16;
+
+    @Param({"box", "sphere", "cylinder", "polygon"})
+    public String shapeType;
+
+    private ZoneShape shape;
+    private double[] xs;
+    private double[] ys;
+    private double[] zs;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.init();
+
+        shape = switch (shapeType) {
+            case "box" -> new BoxShape(new Box(0, 40, 0, 64, 80, 64));
+            case "sphere" -> new SphereShape(32, 60, 32, 32);
+            case "cylinder" -> new CylinderShape(32, 32, 32, 40, 80);
+            case "polygon" -> createStar(32);
+            default -> throw new IllegalArgumentException("Unknown shape: " + shapeType);
+        };
+
+        Random random = new Random(42L);
+        Box bounds = shape.getBounds();
+        xs = new double[POSITIONS];
+        ys = new double[POSITIONS];
+        zs = new double[POSITIONS];
+        for (int i = 0; i < POSITIONS; i++) {
+            xs[i] = bounds.minX - MARGIN + random.nextDouble() * (bounds.getXLength() + 2 * MARGIN);
+            ys[i] = bounds.minY - MARGIN + random.nextDouble() * (bounds.getYLength() + 2 * MARGIN);
+            zs[i] = bounds.minZ - MARGIN + random.nextDouble() * (bounds.getZLength() + 2 * MARGIN);
+        }
+    }
+
+    private static PolygonShape createStar(int vertices) {
+        double[] xs = new double[vertices];
+        double[] zs = new double[vertices];
+        for (int i = 0; i < vertices; i++) {
+            double angle = Math.PI * 2 * i / vertices;
+            double radius = (i & 1) == 0 ? 32 : 16;
+            xs[i] = 32 + Math.cos(angle) * radius;
+            zs[i] = 32 + Math.sin(angle) * radius;
+        }
+        return new PolygonShape(xs, zs, 40, 80);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        int i = next++ & (POSITIONS - 1);
+        return shape.contains(xs[i], ys[i], zs[i]);
+    }
+
+    @Benchmark
+    public double getSignedDistance() {
+        int i = next++ & (POSITIONS - 1);
+        return shape.getSignedDistance(xs[i], ys[i], zs[i]);
+    }
+}
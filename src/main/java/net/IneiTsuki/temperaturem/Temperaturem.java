@@ -1,17 +1,35 @@
 package net.IneiTsuki.temperaturem;
 
+import net.IneiTsuki.temperaturem.cache.BlockHeat;
+import net.IneiTsuki.temperaturem.cache.ChunkTemperatureCache;
+import net.IneiTsuki.temperaturem.cache.EntityHeatIndex;
 import net.IneiTsuki.temperaturem.commands.SeasonCommand;
+import net.IneiTsuki.temperaturem.commands.TemperaturemCommand;
 import net.IneiTsuki.temperaturem.commands.ZoneCommand;
+import net.IneiTsuki.temperaturem.config.ConfigWatcher;
+import net.IneiTsuki.temperaturem.config.MetricsConfig;
+import net.IneiTsuki.temperaturem.config.MobTemperatureConfig;
 import net.IneiTsuki.temperaturem.config.TemperatureEffectsConfig;
 import net.IneiTsuki.temperaturem.data.BiomeTemperatureRegistry;
+import net.IneiTsuki.temperaturem.data.EntityTemperatureRegistry;
 import net.IneiTsuki.temperaturem.data.TemperatureRegistry;
 import net.IneiTsuki.temperaturem.items.ModItems;
+import net.IneiTsuki.temperaturem.metrics.MetricsExporter;
+import net.IneiTsuki.temperaturem.mobs.MobTemperatureManager;
 import net.IneiTsuki.temperaturem.player.PlayerTemperatureManager;
+import net.IneiTsuki.temperaturem.profiling.HotspotTracker;
+import net.IneiTsuki.temperaturem.profiling.TemperatureProfiler;
+import net.IneiTsuki.temperaturem.profiling.jfr.TemperatureEvents;
+import net.IneiTsuki.temperaturem.rooms.RoomDetector;
 import net.IneiTsuki.temperaturem.seasons.SeasonConfig;
 import net.IneiTsuki.temperaturem.seasons.SeasonManager;
+import net.IneiTsuki.temperaturem.util.AsyncTemperatureQueries;
+import net.IneiTsuki.temperaturem.util.ClimateFrame;
+import net.IneiTsuki.temperaturem.util.TemperaturePipeline;
 import net.IneiTsuki.temperaturem.zones.TemperatureZoneManager;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
@@ -22,7 +40,9 @@ import org.slf4j.LoggerFactory;
 public class Temperaturem implements ModInitializer {
     public static final String MOD_ID = "temperaturem";
     public static final Logger LOGGER = LoggerFactory.getLogger(MOD_ID);
-    private static SeasonConfig SEASON_CONFIG;
+    private static volatile SeasonConfig SEASON_CONFIG;
+    private static volatile MetricsConfig METRICS_CONFIG;
+    private static volatile MobTemperatureConfig MOB_CONFIG;
 
     @Override
     public void onInitialize() {
@@ -30,48 +50,119 @@ public class Temperaturem implements ModInitializer {
 
         // Register items FIRST (before recipes are loaded)
         ModItems.initialize();
-        // Register both block and biome temperature registries
+        // Register block, biome and entity temperature registries
         ResourceManagerHelper.get(ResourceType.SERVER_DATA)
                 .registerReloadListener(new TemperatureRegistry());
 
         ResourceManagerHelper.get(ResourceType.SERVER_DATA)
                 .registerReloadListener(new BiomeTemperatureRegistry());
 
+        ResourceManagerHelper.get(ResourceType.SERVER_DATA)
+                .registerReloadListener(new EntityTemperatureRegistry());
+
+        // Temperature tables resolve tags, compile them again once tags are bound
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+            if (client) return;
+            TemperatureRegistry.onTagsLoaded();
+            BiomeTemperatureRegistry.onTagsLoaded(registries);
+            EntityTemperatureRegistry.onTagsLoaded();
+            MobTemperatureManager.compileTrackedTypes();
+        });
+
         SEASON_CONFIG = SeasonConfig.load();
+        METRICS_CONFIG = MetricsConfig.load();
+        MOB_CONFIG = MobTemperatureConfig.load();
 
         // Register zone commands
         CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> {
             ZoneCommand.register(dispatcher);
             SeasonCommand.register(dispatcher);
+            TemperaturemCommand.register(dispatcher);
         });
 
         // Tick zone managers for cache management
         ServerTickEvents.END_SERVER_TICK.register(server -> {
             for (var world : server.getWorlds()) {
+                long time = TemperatureProfiler.start();
                 TemperatureZoneManager manager = TemperatureZoneManager.get(world);
                 manager.tick();
+                time = TemperatureProfiler.lap(world, TemperatureProfiler.Phase.ZONE_TICK, time);
 
                 SeasonManager seasonManager =  SeasonManager.get(world);
                 seasonManager.tick();
+                time = TemperatureProfiler.lap(world, TemperatureProfiler.Phase.SEASON_TICK, time);
+
+                RoomDetector.get(world).tick();
+                TemperatureProfiler.end(world, TemperatureProfiler.Phase.ROOM_TICK, time);
+
+                HotspotTracker.get(world).tick();
             }
         });
 
+        // Metrics export, off unless enabled in metrics.json
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> MetricsExporter.start(server, getMetricsConfig()));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> MetricsExporter.stop());
+
         // Clear zone manager instances on server stop
         ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
             TemperatureZoneManager.clearInstances();
             SeasonManager.clearInstances();
+            ChunkTemperatureCache.clearInstances();
+            EntityHeatIndex.clearInstances();
+            MobTemperatureManager.clearInstances();
+            RoomDetector.clearInstances();
+            ClimateFrame.clearFrames();
+            TemperaturePipeline.clearInstances();
+            TemperatureProfiler.stop();
+            HotspotTracker.clearInstances();
         });
 
+        // Chunk-level temperature caches
+        ChunkTemperatureCache.init();
+        BlockHeat.init();
+
         // Initialize player temperature manager
         PlayerTemperatureManager.init();
 
+        // Mob temperatures, off unless enabled in mobs.json
+        MobTemperatureManager.init();
+
+        // Budgeted capture of async queries at the end of each tick
+        AsyncTemperatureQueries.init();
+
         // Load effects configuration
         TemperatureEffectsConfig.load();
 
+        // JFR events, off unless a recording enables them
+        TemperatureEvents.init();
+
+        // Apply edited config files while the server runs
+        ConfigWatcher.init();
+
         LOGGER.info("=== TemperatureMod initialized successfully ===");
     }
 
     public static SeasonConfig getSeasonConfig() {
         return SEASON_CONFIG;
     }
+
+    public static void setSeasonConfig(SeasonConfig config) {
+        SEASON_CONFIG = config;
+    }
+
+    public static MetricsConfig getMetricsConfig() {
+        return METRICS_CONFIG;
+    }
+
+    public static void setMetricsConfig(MetricsConfig config) {
+        METRICS_CONFIG = config;
+    }
+
+    public static MobTemperatureConfig getMobConfig() {
+        return MOB_CONFIG;
+    }
+
+    public static void setMobConfig(MobTemperatureConfig config) {
+        MOB_CONFIG = config;
+    }
 }
\ No newline at end of file
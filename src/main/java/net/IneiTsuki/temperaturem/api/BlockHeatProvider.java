@@ -0,0 +1,46 @@
+package net.IneiTsuki.temperaturem.api;
+
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiLookup;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.Direction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Live heat output of a block, for blocks whose temperature depends on what they are
+ * doing rather than what they are, such as machines that only heat up while running.
+ * <p>
+ * Register providers through {@link #LOOKUP}, e.g. for a block entity that implements
+ * this interface:
+ * <pre>
+ * BlockHeatProvider.LOOKUP.registerSelf(MY_MACHINE_BLOCK_ENTITY);
+ * </pre>
+ * Blocks without a provider, or whose provider lookup returns null, use the static
+ * block temperature table. Results are cached in the block heat index: they are read
+ * again when the block changes or its block entity calls {@code markDirty()}, never
+ * during a temperature scan. Long-range heat from distant blocks always uses the table.
+ * <p>
+ * Fallback providers ({@code LOOKUP.registerFallback}) are only asked about blocks
+ * with a block entity. Blocks without one need a provider registered for the block.
+ */
+@FunctionalInterface
+public interface BlockHeatProvider {
+
+    /**
+     * The context is the side heat is queried from, or null when it does not matter.
+     * Temperaturem always queries with null.
+     */
+    BlockApiLookup<BlockHeatProvider, @Nullable Direction> LOOKUP = BlockApiLookup.get(
+            new Identifier(Temperaturem.MOD_ID, "block_heat"), BlockHeatProvider.class, Direction.class);
+
+    /**
+     * Provider for blocks that currently give off no heat at all.
+     */
+    BlockHeatProvider NONE = () -> 0;
+
+    /**
+     * @return The block's current temperature in degrees Celsius, on the same scale as
+     * the block temperature table (-273 to 1000)
+     */
+    int getTemperature();
+}
@@ -1,7 +1,14 @@
 package net.IneiTsuki.temperaturem.api;
 
+import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Public API for other mods to interact with the Temperature system.
@@ -50,6 +57,16 @@ public interface ITemperatureAPI {
      */
     void setPlayerTemperature(ServerPlayerEntity player, double temperature);
 
+    /**
+     * Gets the simulated temperature of a mob. Only mobs of the types tracked in
+     * {@code mobs.json} have one, and only while the mob simulation is enabled.
+     *
+     * @param mob The mob to query
+     * @return The mob's temperature in degrees Celsius, or null if it is not tracked
+     * or has not been updated yet
+     */
+    Integer getMobTemperature(MobEntity mob);
+
     // ===== Runtime Registration Methods =====
 
     /**
@@ -126,6 +143,93 @@ public interface ITemperatureAPI {
      */
     boolean hasBiomeTemperature(Identifier biome);
 
+    // ===== Ambient Temperature Methods =====
+
+    /**
+     * Gets the ambient temperature at a position: biome, nearby blocks, weather,
+     * shelter, seasons and zones, the same value players move toward there.
+     * Must be called on the server thread.
+     *
+     * @param world The world to query
+     * @param pos The position to query
+     * @return The ambient temperature in degrees Celsius, clamped to [-50, 150]
+     */
+    double getAmbientTemperature(ServerWorld world, BlockPos pos);
+
+    /**
+     * Gets the ambient temperature at many positions in one call. Positions are grouped
+     * by chunk section internally, so large batches cost much less than the same number
+     * of {@link #getAmbientTemperature} calls. Must be called on the server thread.
+     *
+     * @param world The world to query
+     * @param packedPositions Positions packed with {@link BlockPos#asLong()}
+     * @param out Receives the temperature of {@code packedPositions[i]} at index {@code i}
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code packedPositions}
+     */
+    void getAmbientTemperatures(ServerWorld world, long[] packedPositions, double[] out);
+
+    /**
+     * Gets the ambient temperature of every block in a box, e.g. for heat maps or path
+     * planning. Each heat source is processed once for the whole box rather than once
+     * per block around it, so this is far cheaper than querying every block.
+     * Must be called on the server thread.
+     *
+     * @param world The world to query
+     * @param box The area to query, blocks partially inside are included
+     * @return Temperatures indexed {@code ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX)},
+     * where min is the floored box minimum and each size is at least 1
+     * @throws IllegalArgumentException if the box covers more than
+     * {@link net.IneiTsuki.temperaturem.util.TemperatureField#MAX_VOLUME} blocks
+     */
+    float[] getTemperatureField(ServerWorld world, Box box);
+
+    /**
+     * Gets the ambient temperature at many positions without blocking the server thread.
+     * World data is captured on the server thread at the end of the tick, spread over
+     * several ticks for large queries, and the block scans run on a small worker pool.
+     * Positions in unloaded chunks read as {@code NaN}. May be called from any thread.
+     * <p>
+     * At most {@link net.IneiTsuki.temperaturem.util.AsyncTemperatureQueries#MAX_PENDING}
+     * queries may be pending; beyond that the returned future fails with a
+     * {@link java.util.concurrent.RejectedExecutionException} and the caller should retry later.
+     *
+     * @param world The world to query
+     * @param packedPositions Positions packed with {@link BlockPos#asLong()}
+     * @param callbackExecutor Completes the returned future, e.g. {@code server} to get
+     *                         results back on the server thread
+     * @return Temperatures indexed like {@code packedPositions}
+     * @throws IllegalArgumentException if more than
+     * {@link net.IneiTsuki.temperaturem.util.AsyncTemperatureQueries#MAX_POSITIONS} positions are given
+     */
+    CompletableFuture<double[]> queryAsync(ServerWorld world, long[] packedPositions, Executor callbackExecutor);
+
+    /**
+     * Gets the ambient temperature at one position without blocking the server thread.
+     *
+     * @see #queryAsync(ServerWorld, long[], Executor)
+     */
+    CompletableFuture<Double> queryAsync(ServerWorld world, BlockPos pos, Executor callbackExecutor);
+
+    // ===== Contributor Methods =====
+
+    /**
+     * Adds a term to the ambient temperature calculation, evaluated after the built-in
+     * biome, time of day, block and environment stages. Static contributors are cached
+     * per position, dynamic ones run on every evaluation.
+     *
+     * @param contributor The contributor to add
+     * @throws IllegalArgumentException if a contributor with the same id is registered
+     */
+    void registerContributor(TemperatureContributor contributor);
+
+    /**
+     * Removes a registered contributor, built-in ones included.
+     *
+     * @param id The contributor id
+     * @return true if a contributor was removed
+     */
+    boolean unregisterContributor(Identifier id);
+
     // ===== Effect Configuration Methods =====
 
     /**
@@ -1,6 +1,7 @@
 package net.IneiTsuki.temperaturem.api;
 
 import net.IneiTsuki.temperaturem.zones.TemperatureZone;
+import net.IneiTsuki.temperaturem.zones.ZoneShape;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
@@ -45,6 +46,21 @@ public interface ITemperatureZoneAPI {
     TemperatureZone createZone(ServerWorld world, String name, Box bounds,
                                double temperature, TemperatureZone.ZoneType type);
 
+    /**
+     * Create a new temperature zone with any shape, such as a
+     * {@link net.IneiTsuki.temperaturem.zones.SphereShape} or
+     * {@link net.IneiTsuki.temperaturem.zones.PolygonShape}.
+     *
+     * @param world The world to create the zone in
+     * @param name The name of the zone
+     * @param shape The shape of the zone
+     * @param temperature The temperature in degrees Celsius
+     * @param type The zone type
+     * @return The created zone
+     */
+    TemperatureZone createZone(ServerWorld world, String name, ZoneShape shape,
+                               double temperature, TemperatureZone.ZoneType type);
+
     /**
      * Remove a temperature zone.
      *
@@ -143,6 +159,16 @@ public interface ITemperatureZoneAPI {
      */
     void setZoneBounds(ServerWorld world, UUID zoneId, BlockPos pos1, BlockPos pos2);
 
+    /**
+     * Replace a zone's shape.
+     *
+     * @param world The world containing the zone
+     * @param zoneId The zone ID
+     * @param shape The new shape
+     * @throws IllegalArgumentException if zone not found or shape is null
+     */
+    void setZoneShape(ServerWorld world, UUID zoneId, ZoneShape shape);
+
     /**
      * Update a zone's priority.
      * Higher priority zones take precedence when multiple zones overlap.
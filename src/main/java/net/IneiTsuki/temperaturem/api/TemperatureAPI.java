@@ -3,13 +3,20 @@ package net.IneiTsuki.temperaturem.api;
 import net.IneiTsuki.temperaturem.data.BiomeTemperatureRegistry;
 import net.IneiTsuki.temperaturem.data.TemperatureRegistry;
 import net.IneiTsuki.temperaturem.effects.TemperatureEffects;
+import net.IneiTsuki.temperaturem.mobs.MobTemperatureManager;
 import net.IneiTsuki.temperaturem.player.PlayerTemperature;
 import net.IneiTsuki.temperaturem.player.PlayerTemperatureManager;
 import net.IneiTsuki.temperaturem.seasons.Season;
 import net.IneiTsuki.temperaturem.seasons.SeasonManager;
+import net.IneiTsuki.temperaturem.util.AsyncTemperatureQueries;
+import net.IneiTsuki.temperaturem.util.TemperatureField;
+import net.IneiTsuki.temperaturem.util.TemperaturePipeline;
+import net.IneiTsuki.temperaturem.util.TemperatureUtil;
 import net.IneiTsuki.temperaturem.zones.TemperatureZone;
 import net.IneiTsuki.temperaturem.zones.TemperatureZoneManager;
+import net.IneiTsuki.temperaturem.zones.ZoneShape;
 import net.minecraft.block.Block;
+import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.registry.Registries;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -20,6 +27,8 @@ import net.minecraft.util.math.Box;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Implementation of the Temperature API for other mods to use.
@@ -83,6 +92,13 @@ public class TemperatureAPI implements ITemperatureAPI, ITemperatureZoneAPI, ISe
         }
     }
 
+    @Override
+    public Integer getMobTemperature(MobEntity mob) {
+        if (mob == null || !(mob.getWorld() instanceof ServerWorld world)) return null;
+        MobTemperatureManager manager = MobTemperatureManager.getIfLoaded(world);
+        return manager != null ? manager.getTemperature(mob) : null;
+    }
+
     // ===== Runtime Registration Methods =====
 
     @Override
@@ -157,6 +173,62 @@ public class TemperatureAPI implements ITemperatureAPI, ITemperatureZoneAPI, ISe
         return BiomeTemperatureRegistry.hasOverride(biomeId);
     }
 
+    // ===== Ambient Temperature Methods =====
+
+    @Override
+    public double getAmbientTemperature(ServerWorld world, BlockPos pos) {
+        if (world == null || pos == null) return 0.0;
+        return TemperatureUtil.getTargetTemperature(world, pos);
+    }
+
+    @Override
+    public void getAmbientTemperatures(ServerWorld world, long[] packedPositions, double[] out) {
+        if (world == null || packedPositions == null || out == null) {
+            throw new IllegalArgumentException("World, positions and output must not be null");
+        }
+        TemperatureUtil.getAmbientTemperatures(world, packedPositions, out);
+    }
+
+    @Override
+    public float[] getTemperatureField(ServerWorld world, Box box) {
+        if (world == null || box == null) {
+            throw new IllegalArgumentException("World and box must not be null");
+        }
+        return TemperatureField.compute(world, box);
+    }
+
+    @Override
+    public CompletableFuture<double[]> queryAsync(ServerWorld world, long[] packedPositions, Executor callbackExecutor) {
+        if (world == null || packedPositions == null || callbackExecutor == null) {
+            throw new IllegalArgumentException("World, positions and executor must not be null");
+        }
+        return AsyncTemperatureQueries.query(world, packedPositions, callbackExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Double> queryAsync(ServerWorld world, BlockPos pos, Executor callbackExecutor) {
+        if (pos == null) {
+            throw new IllegalArgumentException("Position must not be null");
+        }
+        return queryAsync(world, new long[]{pos.asLong()}, callbackExecutor).thenApply(temps -> temps[0]);
+    }
+
+    // ===== Contributor Methods =====
+
+    @Override
+    public void registerContributor(TemperatureContributor contributor) {
+        if (contributor == null || contributor.getId() == null || contributor.getScope() == null) {
+            throw new IllegalArgumentException("Contributor, its id and scope must not be null");
+        }
+        TemperaturePipeline.register(contributor);
+    }
+
+    @Override
+    public boolean unregisterContributor(Identifier id) {
+        if (id == null) return false;
+        return TemperaturePipeline.unregister(id);
+    }
+
     // ===== Effect Configuration Methods =====
 
     @Override
@@ -278,6 +350,26 @@ public class TemperatureAPI implements ITemperatureAPI, ITemperatureZoneAPI, ISe
         return manager.createZone(name, bounds, temperature, type);
     }
 
+    @Override
+    public TemperatureZone createZone(ServerWorld world, String name, ZoneShape shape,
+                                      double temperature, TemperatureZone.ZoneType type) {
+        if (world == null) {
+            throw new IllegalArgumentException("World cannot be null");
+        }
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Zone name cannot be empty");
+        }
+        if (shape == null) {
+            throw new IllegalArgumentException("Shape cannot be null");
+        }
+        if (temperature < -273 || temperature > 1000) {
+            throw new IllegalArgumentException("Temperature out of range (-273 to 1000°C)");
+        }
+
+        TemperatureZoneManager manager = TemperatureZoneManager.get(world);
+        return manager.createZone(name, shape, temperature, type);
+    }
+
     @Override
     public boolean removeZone(ServerWorld world, UUID zoneId) {
         if (world == null || zoneId == null) return false;
@@ -357,7 +449,22 @@ public class TemperatureAPI implements ITemperatureAPI, ITemperatureZoneAPI, ISe
 
         Box bounds = createBoundingBox(pos1, pos2);
         zone.setBounds(bounds);
-        TemperatureZoneManager.get(world).markDirty();
+        TemperatureZoneManager.get(world).onZoneUpdated();
+    }
+
+    @Override
+    public void setZoneShape(ServerWorld world, UUID zoneId, ZoneShape shape) {
+        if (shape == null) {
+            throw new IllegalArgumentException("Shape cannot be null");
+        }
+
+        TemperatureZone zone = getZone(world, zoneId);
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone not found: " + zoneId);
+        }
+
+        zone.setShape(shape);
+        TemperatureZoneManager.get(world).onZoneUpdated();
     }
 
     @Override
@@ -368,7 +475,7 @@ public class TemperatureAPI implements ITemperatureAPI, ITemperatureZoneAPI, ISe
         }
 
         zone.setPriority(priority);
-        TemperatureZoneManager.get(world).markDirty();
+        TemperatureZoneManager.get(world).onZoneUpdated();
     }
 
     @Override
@@ -379,7 +486,7 @@ public class TemperatureAPI implements ITemperatureAPI, ITemperatureZoneAPI, ISe
         }
 
         zone.setEnabled(enabled);
-        TemperatureZoneManager.get(world).markDirty();
+        TemperatureZoneManager.get(world).onZoneUpdated();
     }
 
     @Override
@@ -0,0 +1,64 @@
+package net.IneiTsuki.temperaturem.api;
+
+import net.IneiTsuki.temperaturem.util.ClimateFrame;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * One additive term of the ambient temperature. The built-in terms (biome, time of
+ * day, nearby blocks, shelter and weather) are contributors too; registered ones are
+ * summed with them before seasons and zones are applied.
+ * <p>
+ * Contributors run on the server thread for every evaluation, so they should be cheap
+ * and must not allocate in the common case. Their cost shows up per stage in
+ * {@code /temperaturem profile report}.
+ */
+public interface TemperatureContributor {
+
+    enum Scope {
+        /**
+         * Depends only on the world and position, and on data that changes with a
+         * datapack reload. Results are cached per position until the next reload or
+         * {@link net.IneiTsuki.temperaturem.util.TemperaturePipeline#invalidateStaticCache()}.
+         */
+        STATIC,
+        /**
+         * Re-evaluated on every call, for anything that changes with time, weather or blocks.
+         */
+        DYNAMIC
+    }
+
+    /**
+     * @return A unique id, used for ordering diagnostics and profiling
+     */
+    Identifier getId();
+
+    Scope getScope();
+
+    /**
+     * @param frame The world's climate for the current tick, see {@link ClimateFrame#getWorld()}
+     * @return Degrees Celsius added to the temperature at {@code pos}
+     */
+    double getContribution(ClimateFrame frame, BlockPos pos);
+
+    static TemperatureContributor of(Identifier id, Scope scope, ToDoubleBiFunction<ClimateFrame, BlockPos> contribution) {
+        return new TemperatureContributor() {
+            @Override
+            public Identifier getId() {
+                return id;
+            }
+
+            @Override
+            public Scope getScope() {
+                return scope;
+            }
+
+            @Override
+            public double getContribution(ClimateFrame frame, BlockPos pos) {
+                return contribution.applyAsDouble(frame, pos);
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package net.IneiTsuki.temperaturem.api;
+
+/**
+ * Coarse bands of player temperature, using the same thresholds as the temperature
+ * effects. Ordered from coldest to hottest.
+ */
+public enum TemperatureTier {
+    EXTREME_COLD, // -20 and below
+    VERY_COLD,    // -19 to -10
+    COLD,         // -9 to 0
+    COOL,         // 1 to 11
+    COMFORTABLE,  // 12 to 25
+    WARM,         // 26 to 39
+    HOT,          // 40 to 54
+    VERY_HOT,     // 55 to 64
+    EXTREME_HOT;  // 65 and above
+
+    public static TemperatureTier of(int temperature) {
+        if (temperature <= -20) return EXTREME_COLD;
+        if (temperature <= -10) return VERY_COLD;
+        if (temperature <= 0) return COLD;
+        if (temperature < 12) return COOL;
+        if (temperature <= 25) return COMFORTABLE;
+        if (temperature < 40) return WARM;
+        if (temperature < 55) return HOT;
+        if (temperature < 65) return VERY_HOT;
+        return EXTREME_HOT;
+    }
+
+    public boolean isCold() {
+        return this.ordinal() <= COLD.ordinal();
+    }
+
+    public boolean isHot() {
+        return this.ordinal() >= HOT.ordinal();
+    }
+}
@@ -0,0 +1,56 @@
+package net.IneiTsuki.temperaturem.api.event;
+
+import net.IneiTsuki.temperaturem.api.TemperatureTier;
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+
+/**
+ * Events fired when a player's temperature changes meaningfully. They fire on the server
+ * thread and only on actual transitions, so listeners do not need to poll
+ * {@code getPlayerTemperature} every tick.
+ */
+public final class PlayerTemperatureEvents {
+
+    /**
+     * Fired when a player's temperature moves into a different {@link TemperatureTier}.
+     */
+    public static final Event<TierChanged> TIER_CHANGED = EventFactory.createArrayBacked(TierChanged.class,
+            callbacks -> (player, oldTier, newTier) -> {
+                for (TierChanged callback : callbacks) {
+                    callback.onTierChanged(player, oldTier, newTier);
+                }
+            });
+
+    /**
+     * Fired when a player's temperature crosses a threshold registered with
+     * {@link TemperatureThresholds#register}. Crossing several thresholds in one update
+     * fires once per threshold, in the direction of travel.
+     */
+    public static final Event<ThresholdCrossed> THRESHOLD_CROSSED = EventFactory.createArrayBacked(ThresholdCrossed.class,
+            callbacks -> (player, threshold, temperature, rising) -> {
+                for (ThresholdCrossed callback : callbacks) {
+                    callback.onThresholdCrossed(player, threshold, temperature, rising);
+                }
+            });
+
+    private PlayerTemperatureEvents() {
+    }
+
+    @FunctionalInterface
+    public interface TierChanged {
+        void onTierChanged(ServerPlayerEntity player, TemperatureTier oldTier, TemperatureTier newTier);
+    }
+
+    @FunctionalInterface
+    public interface ThresholdCrossed {
+        /**
+         * @param threshold   The id the threshold was registered under
+         * @param temperature The threshold temperature
+         * @param rising      True when the player warmed up to or past the threshold,
+         *                    false when they cooled below it
+         */
+        void onThresholdCrossed(ServerPlayerEntity player, Identifier threshold, int temperature, boolean rising);
+    }
+}
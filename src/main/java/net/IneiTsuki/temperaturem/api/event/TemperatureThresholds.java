@@ -0,0 +1,114 @@
+package net.IneiTsuki.temperaturem.api.event;
+
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+
+import java.util.*;
+
+/**
+ * Temperatures at which {@link PlayerTemperatureEvents#THRESHOLD_CROSSED} fires.
+ * Registrations are compiled into sorted arrays, so a temperature change only looks at
+ * the thresholds between the old and new value.
+ */
+public final class TemperatureThresholds {
+
+    private static final Map<Identifier, Integer> THRESHOLDS = new LinkedHashMap<>();
+
+    // Compiled from THRESHOLDS, replaced as a whole
+    private static volatile Compiled compiled = new Compiled(new int[0], new Identifier[0]);
+
+    private TemperatureThresholds() {
+    }
+
+    /**
+     * Registers or moves a threshold.
+     *
+     * @param id          Passed to listeners to tell thresholds apart
+     * @param temperature The temperature in degrees Celsius; reaching it from below
+     *                    counts as rising, dropping below it as falling
+     */
+    public static synchronized void register(Identifier id, int temperature) {
+        if (id == null) {
+            throw new IllegalArgumentException("Threshold id must not be null");
+        }
+        THRESHOLDS.put(id, temperature);
+        compile();
+        Temperaturem.LOGGER.debug("Registered temperature threshold '{}' at {}°C", id, temperature);
+    }
+
+    public static synchronized boolean unregister(Identifier id) {
+        boolean removed = THRESHOLDS.remove(id) != null;
+        if (removed) {
+            compile();
+        }
+        return removed;
+    }
+
+    public static synchronized Map<Identifier, Integer> getThresholds() {
+        return new HashMap<>(THRESHOLDS);
+    }
+
+    /**
+     * Fires {@link PlayerTemperatureEvents#THRESHOLD_CROSSED} for every threshold between
+     * two temperatures. Called by the player temperature manager.
+     */
+    public static void fireCrossings(ServerPlayerEntity player, int oldTemperature, int newTemperature) {
+        Compiled current = compiled;
+        int[] temps = current.temperatures;
+        Identifier[] names = current.ids;
+        if (temps.length == 0 || oldTemperature == newTemperature) return;
+
+        if (newTemperature > oldTemperature) {
+            // Thresholds t with old < t <= new, coldest first
+            for (int i = firstAbove(temps, oldTemperature); i < temps.length && temps[i] <= newTemperature; i++) {
+                PlayerTemperatureEvents.THRESHOLD_CROSSED.invoker().onThresholdCrossed(player, names[i], temps[i], true);
+            }
+        } else {
+            // Thresholds t with new < t <= old, hottest first
+            for (int i = firstAbove(temps, oldTemperature) - 1; i >= 0 && temps[i] > newTemperature; i--) {
+                PlayerTemperatureEvents.THRESHOLD_CROSSED.invoker().onThresholdCrossed(player, names[i], temps[i], false);
+            }
+        }
+    }
+
+    /**
+     * Index of the first threshold above a temperature, or the length if there is none.
+     */
+    private static int firstAbove(int[] temps, int temperature) {
+        int low = 0, high = temps.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (temps[mid] <= temperature) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void compile() {
+        List<Map.Entry<Identifier, Integer>> entries = new ArrayList<>(THRESHOLDS.entrySet());
+        entries.sort(Map.Entry.comparingByValue());
+
+        int[] compiledTemps = new int[entries.size()];
+        Identifier[] compiledIds = new Identifier[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            compiledTemps[i] = entries.get(i).getValue();
+            compiledIds[i] = entries.get(i).getKey();
+        }
+
+        compiled = new Compiled(compiledTemps, compiledIds);
+    }
+
+    private static class Compiled {
+        private final int[] temperatures; // Sorted ascending
+        private final Identifier[] ids;
+
+        Compiled(int[] temperatures, Identifier[] ids) {
+            this.temperatures = temperatures;
+            this.ids = ids;
+        }
+    }
+}
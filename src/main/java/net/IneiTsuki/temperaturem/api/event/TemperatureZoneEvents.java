@@ -0,0 +1,43 @@
+package net.IneiTsuki.temperaturem.api.event;
+
+import net.IneiTsuki.temperaturem.zones.TemperatureZone;
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+/**
+ * Events fired on the server thread when a player enters or leaves an enabled
+ * temperature zone. Removing a zone the player is in, or changing to another world,
+ * also counts as leaving it. Membership is checked on each temperature update, every
+ * other tick, but only re-evaluated when the player moved to another block or zones
+ * changed.
+ */
+public final class TemperatureZoneEvents {
+
+    public static final Event<Entered> ENTERED = EventFactory.createArrayBacked(Entered.class,
+            callbacks -> (player, zone) -> {
+                for (Entered callback : callbacks) {
+                    callback.onZoneEntered(player, zone);
+                }
+            });
+
+    public static final Event<Exited> EXITED = EventFactory.createArrayBacked(Exited.class,
+            callbacks -> (player, zone) -> {
+                for (Exited callback : callbacks) {
+                    callback.onZoneExited(player, zone);
+                }
+            });
+
+    private TemperatureZoneEvents() {
+    }
+
+    @FunctionalInterface
+    public interface Entered {
+        void onZoneEntered(ServerPlayerEntity player, TemperatureZone zone);
+    }
+
+    @FunctionalInterface
+    public interface Exited {
+        void onZoneExited(ServerPlayerEntity player, TemperatureZone zone);
+    }
+}
@@ -0,0 +1,57 @@
+package net.IneiTsuki.temperaturem.cache;
+
+import net.IneiTsuki.temperaturem.api.BlockHeatProvider;
+import net.IneiTsuki.temperaturem.data.TemperatureRegistry;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Resolves the temperature a block contributes to the heat index, asking the
+ * {@link BlockHeatProvider#LOOKUP} before falling back to the static table.
+ */
+public final class BlockHeat {
+
+    private static final int MIN_TEMPERATURE = -273;
+    private static final int MAX_TEMPERATURE = 1000;
+
+    private BlockHeat() {
+    }
+
+    /**
+     * Registers providers for vanilla blocks that are only hot while lit.
+     */
+    public static void init() {
+        BlockHeatProvider.LOOKUP.registerForBlocks(
+                (world, pos, state, blockEntity, context) ->
+                        state.contains(Properties.LIT) && !state.get(Properties.LIT) ? BlockHeatProvider.NONE : null,
+                Blocks.FURNACE, Blocks.BLAST_FURNACE, Blocks.SMOKER, Blocks.CAMPFIRE, Blocks.SOUL_CAMPFIRE);
+    }
+
+    /**
+     * Whether a block's temperature may depend on its position, so it has to be
+     * resolved with {@link #resolve} instead of per state. Fallback providers are not
+     * listed per block, so every block with a block entity is assumed to have one.
+     */
+    public static boolean hasProvider(BlockState state) {
+        return state.hasBlockEntity() || BlockHeatProvider.LOOKUP.getProvider(state.getBlock()) != null;
+    }
+
+    /**
+     * Gets the temperature of a block in the world. Runs the provider lookup, so only
+     * call this when the block or its block entity changed.
+     *
+     * @param world The world, or null to use the static table
+     */
+    public static int resolve(World world, BlockPos pos, BlockState state) {
+        if (world != null && hasProvider(state)) {
+            BlockHeatProvider provider = BlockHeatProvider.LOOKUP.find(world, pos, state, null, null);
+            if (provider != null) {
+                return Math.max(MIN_TEMPERATURE, Math.min(MAX_TEMPERATURE, provider.getTemperature()));
+            }
+        }
+        return TemperatureRegistry.getTemperature(state);
+    }
+}
@@ -0,0 +1,178 @@
+package net.IneiTsuki.temperaturem.cache;
+
+import net.IneiTsuki.temperaturem.data.BiomeTemperatureRegistry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.source.BiomeCoords;
+
+/**
+ * Per-chunk climate data. Holds a blended biome temperature grid at quart
+ * (4x4x4 block) resolution, built lazily one chunk section at a time.
+ */
+public class ChunkClimateData {
+
+    private static final int QUARTS = 4; // Quart cells per section axis
+    private static final int CELLS_PER_SECTION = QUARTS * QUARTS * QUARTS;
+
+    // Binomial blend kernel, applied separably on X and Z
+    private static final int[] BLEND_KERNEL = {1, 4, 6, 4, 1};
+    private static final int BLEND_RADIUS = BLEND_KERNEL.length / 2;
+    private static final double KERNEL_SUM = 16.0;
+    private static final int SAMPLE_WIDTH = QUARTS + BLEND_RADIUS * 2;
+
+    // Biomes above this absolute override get reduced time/altitude modifiers
+    private static final double EXTREME_BIOME_THRESHOLD = 40;
+
+    private final int chunkX;
+    private final int chunkZ;
+    private final int bottomSectionCoord;
+
+    // Indexed by section index, null until the section is first sampled
+    private final float[][] biomeTemps;
+    private final float[][] extremeWeights;
+    private int generation;
+
+    public ChunkClimateData(World world, int chunkX, int chunkZ) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.bottomSectionCoord = world.getBottomSectionCoord();
+        int sections = world.countVerticalSections();
+        this.biomeTemps = new float[sections][];
+        this.extremeWeights = new float[sections][];
+        this.generation = BiomeTemperatureRegistry.getGeneration();
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkZ() {
+        return chunkZ;
+    }
+
+    /**
+     * Gets the blended biome temperature at a block position inside this chunk.
+     */
+    public float getBiomeTemperature(World world, int x, int y, int z) {
+        int section = sectionIndex(y);
+        ensureSection(world, section);
+        return biomeTemps[section][cellIndex(x, y, z)];
+    }
+
+    /**
+     * Gets the blended fraction (0-1) of surrounding biome cells that count as extreme.
+     */
+    public float getExtremeWeight(World world, int x, int y, int z) {
+        int section = sectionIndex(y);
+        ensureSection(world, section);
+        return extremeWeights[section][cellIndex(x, y, z)];
+    }
+
+    public void invalidate() {
+        for (int i = 0; i < biomeTemps.length; i++) {
+            biomeTemps[i] = null;
+            extremeWeights[i] = null;
+        }
+    }
+
+    private void ensureSection(World world, int section) {
+        int currentGeneration = BiomeTemperatureRegistry.getGeneration();
+        if (generation != currentGeneration) {
+            invalidate();
+            generation = currentGeneration;
+        }
+
+        if (biomeTemps[section] == null) {
+            buildSection(world, section);
+        }
+    }
+
+    private void buildSection(World world, int section) {
+        float[] temps = new float[CELLS_PER_SECTION];
+        float[] extremes = new float[CELLS_PER_SECTION];
+
+        int baseQuartX = BiomeCoords.fromChunk(chunkX) - BLEND_RADIUS;
+        int baseQuartZ = BiomeCoords.fromChunk(chunkZ) - BLEND_RADIUS;
+        int baseQuartY = BiomeCoords.fromChunk(bottomSectionCoord + section);
+
+        double[] rawTemps = new double[SAMPLE_WIDTH * SAMPLE_WIDTH];
+        double[] rawExtremes = new double[SAMPLE_WIDTH * SAMPLE_WIDTH];
+        double[] rowTemps = new double[QUARTS * SAMPLE_WIDTH];
+        double[] rowExtremes = new double[QUARTS * SAMPLE_WIDTH];
+
+        for (int qy = 0; qy < QUARTS; qy++) {
+            // Sample the raw biome temperature for this quart layer plus the blend margin
+            for (int sx = 0; sx < SAMPLE_WIDTH; sx++) {
+                for (int sz = 0; sz < SAMPLE_WIDTH; sz++) {
+                    RegistryEntry<Biome> entry = world.getBiomeForNoiseGen(
+                            baseQuartX + sx, baseQuartY + qy, baseQuartZ + sz);
+                    int i = sx * SAMPLE_WIDTH + sz;
+                    Integer override = getOverride(entry);
+                    if (override != null) {
+                        rawTemps[i] = override;
+                        rawExtremes[i] = Math.abs(override) > EXTREME_BIOME_THRESHOLD ? 1.0 : 0.0;
+                    } else {
+                        rawTemps[i] = entry.value().getTemperature() * 20.0;
+                        rawExtremes[i] = 0.0;
+                    }
+                }
+            }
+
+            // Blend along X
+            for (int qx = 0; qx < QUARTS; qx++) {
+                for (int sz = 0; sz < SAMPLE_WIDTH; sz++) {
+                    double temp = 0;
+                    double extreme = 0;
+                    for (int k = 0; k < BLEND_KERNEL.length; k++) {
+                        int i = (qx + k) * SAMPLE_WIDTH + sz;
+                        temp += rawTemps[i] * BLEND_KERNEL[k];
+                        extreme += rawExtremes[i] * BLEND_KERNEL[k];
+                    }
+                    rowTemps[qx * SAMPLE_WIDTH + sz] = temp / KERNEL_SUM;
+                    rowExtremes[qx * SAMPLE_WIDTH + sz] = extreme / KERNEL_SUM;
+                }
+            }
+
+            // Blend along Z
+            for (int qx = 0; qx < QUARTS; qx++) {
+                for (int qz = 0; qz < QUARTS; qz++) {
+                    double temp = 0;
+                    double extreme = 0;
+                    for (int k = 0; k < BLEND_KERNEL.length; k++) {
+                        int i = qx * SAMPLE_WIDTH + qz + k;
+                        temp += rowTemps[i] * BLEND_KERNEL[k];
+                        extreme += rowExtremes[i] * BLEND_KERNEL[k];
+                    }
+                    int cell = (qy * QUARTS + qz) * QUARTS + qx;
+                    temps[cell] = (float) (temp / KERNEL_SUM);
+                    extremes[cell] = (float) (extreme / KERNEL_SUM);
+                }
+            }
+        }
+
+        biomeTemps[section] = temps;
+        extremeWeights[section] = extremes;
+    }
+
+    private static Integer getOverride(RegistryEntry<Biome> entry) {
+        Identifier biomeId = entry.getKey()
+                .map(RegistryKey::getValue)
+                .orElse(null);
+        return biomeId != null ? BiomeTemperatureRegistry.getTemperatureOverride(biomeId) : null;
+    }
+
+    private int sectionIndex(int y) {
+        int index = (y >> 4) - bottomSectionCoord;
+        return Math.max(0, Math.min(biomeTemps.length - 1, index));
+    }
+
+    private static int cellIndex(int x, int y, int z) {
+        int qx = (x & 15) >> 2;
+        int qy = (y & 15) >> 2;
+        int qz = (z & 15) >> 2;
+        return (qy * QUARTS + qz) * QUARTS + qx;
+    }
+}
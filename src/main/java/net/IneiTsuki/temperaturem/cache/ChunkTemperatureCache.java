@@ -0,0 +1,281 @@
+package net.IneiTsuki.temperaturem.cache;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import net.IneiTsuki.temperaturem.data.TemperatureRegistry;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chunk-level cache of temperature data for a world. Entries are created lazily
+ * on first lookup and dropped when the chunk unloads. Only used by the thread that
+ * owns the world.
+ */
+public class ChunkTemperatureCache {
+
+    private static final Map<World, ChunkTemperatureCache> INSTANCES = new ConcurrentHashMap<>();
+
+    // Read for every section with nothing to index and by snapshots for every section
+    // they did not copy. Never cached in a section map, so never updated
+    private static final SectionThermalData EMPTY_SECTION = SectionThermalData.empty();
+
+    private final World world;
+    private final SectionSource source;
+    private final Long2ObjectOpenHashMap<ChunkClimateData> chunks = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<SectionThermalData> sections = new Long2ObjectOpenHashMap<>();
+    private final HeatPyramid heatPyramid;
+    private final boolean snapshot; // Sections are fixed copies, never rebuilt
+
+    // Most recently used entries, players mostly query the same chunk repeatedly
+    private ChunkClimateData lastChunk;
+    private long lastSectionKey = Long.MIN_VALUE;
+    private SectionThermalData lastSection;
+
+    private ChunkTemperatureCache(World world, SectionSource source, boolean snapshot) {
+        this.world = world;
+        this.source = source;
+        this.heatPyramid = new HeatPyramid(source);
+        this.snapshot = snapshot;
+    }
+
+    // ===== Static Access =====
+
+    public static void init() {
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+            ChunkTemperatureCache cache = INSTANCES.get(world);
+            if (cache != null) {
+                cache.heatPyramid.onChunkChanged(chunk.getPos());
+            }
+        });
+
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+            ChunkTemperatureCache cache = INSTANCES.get(world);
+            if (cache != null) {
+                cache.onChunkUnload(chunk.getPos());
+            }
+        });
+
+        ServerWorldEvents.UNLOAD.register((server, world) -> INSTANCES.remove(world));
+    }
+
+    public static ChunkTemperatureCache get(World world) {
+        return INSTANCES.computeIfAbsent(world, w -> new ChunkTemperatureCache(w, SectionSource.of(w), false));
+    }
+
+    /**
+     * Creates a cache over block data that does not belong to a loaded world, such as
+     * synthetic sections in benchmarks. It is not registered for chunk or block events
+     * and only supports block lookups, not climate data.
+     */
+    public static ChunkTemperatureCache detached(SectionSource source) {
+        return new ChunkTemperatureCache(null, source, false);
+    }
+
+    /**
+     * Copies the heat index of some sections into a detached cache that may be read
+     * from another thread, while this cache keeps tracking the world. Sections that
+     * were not copied read as empty. Only block lookups are supported; the snapshot's
+     * heat pyramid must only be used for {@link HeatPyramid#getSectionWeight}.
+     * <p>
+     * Must be called on the thread that owns this cache. A snapshot itself must only
+     * be read by one thread at a time.
+     */
+    public ChunkTemperatureCache snapshot(LongCollection sectionKeys) {
+        ChunkTemperatureCache copy = new ChunkTemperatureCache(null, source, true);
+        LongIterator keys = sectionKeys.iterator();
+        while (keys.hasNext()) {
+            long key = keys.nextLong();
+            SectionThermalData data = getSection(ChunkSectionPos.unpackX(key),
+                    ChunkSectionPos.unpackY(key), ChunkSectionPos.unpackZ(key));
+            copy.sections.put(key, data.copy());
+        }
+        return copy;
+    }
+
+    public static void clearInstances() {
+        INSTANCES.clear();
+    }
+
+    // ===== Lookups =====
+
+    /**
+     * Gets the climate data of a chunk. Data for a chunk that is not loaded is built
+     * but not cached, as no unload event would ever remove it.
+     */
+    public ChunkClimateData getClimate(int chunkX, int chunkZ) {
+        if (world == null) {
+            throw new IllegalStateException("Detached temperature caches have no climate data");
+        }
+
+        ChunkClimateData last = lastChunk;
+        if (last != null && last.getChunkX() == chunkX && last.getChunkZ() == chunkZ) {
+            return last;
+        }
+
+        long key = ChunkPos.toLong(chunkX, chunkZ);
+        ChunkClimateData data = chunks.get(key);
+        if (data == null) {
+            data = new ChunkClimateData(world, chunkX, chunkZ);
+            if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                return data;
+            }
+            chunks.put(key, data);
+        }
+
+        lastChunk = data;
+        return data;
+    }
+
+    public ChunkClimateData getClimate(BlockPos pos) {
+        return getClimate(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * Gets the heat index of a chunk section, building it on first access.
+     * Sections of unloaded chunks or outside the height limit read as empty and are
+     * not cached.
+     */
+    public SectionThermalData getSection(int sectionX, int sectionY, int sectionZ) {
+        long key = ChunkSectionPos.asLong(sectionX, sectionY, sectionZ);
+        if (snapshot) {
+            SectionThermalData data = sections.get(key);
+            return data != null ? data : EMPTY_SECTION;
+        }
+
+        int generation = TemperatureRegistry.getGeneration();
+        if (key == lastSectionKey && lastSection.getGeneration() == generation) {
+            return lastSection;
+        }
+
+        SectionThermalData data = sections.get(key);
+        if (data == null || data.getGeneration() != generation) {
+            data = buildSection(sectionX, sectionY, sectionZ);
+            if (data == null) {
+                return EMPTY_SECTION;
+            }
+            sections.put(key, data);
+        }
+
+        lastSectionKey = key;
+        lastSection = data;
+        return data;
+    }
+
+    private SectionThermalData buildSection(int sectionX, int sectionY, int sectionZ) {
+        if (source.isOutOfHeightLimit(ChunkSectionPos.getBlockCoord(sectionY))) {
+            return null;
+        }
+
+        ChunkSection section = source.getSection(sectionX, sectionY, sectionZ);
+        if (section == null) {
+            return null;
+        }
+        return SectionThermalData.build(section, world, sectionX, sectionY, sectionZ);
+    }
+
+    /**
+     * Gets the registry temperature of the block at a position from the heat index.
+     */
+    public int getBlockTemperature(int x, int y, int z) {
+        return getSection(x >> 4, y >> 4, z >> 4).getTemperature(SectionThermalData.index(x, y, z));
+    }
+
+    /**
+     * Gets the static table temperature of the block at a position, the value the
+     * heat pyramid summed for it.
+     */
+    public int getTableTemperature(int x, int y, int z) {
+        return getSection(x >> 4, y >> 4, z >> 4).getTableTemperature(SectionThermalData.index(x, y, z));
+    }
+
+    public boolean isOpaque(int x, int y, int z) {
+        return getSection(x >> 4, y >> 4, z >> 4).isOpaque(SectionThermalData.index(x, y, z));
+    }
+
+    /**
+     * Gets the coarse heat summary used for sources beyond the exact scan window.
+     */
+    public HeatPyramid getHeatPyramid() {
+        return heatPyramid;
+    }
+
+    // ===== Invalidation =====
+
+    /**
+     * Keeps cached sections and the heat pyramid in sync with a block change. Runs for
+     * every block change in the world, so sections nothing has looked at are skipped
+     * before any temperature lookup.
+     */
+    public void onBlockChanged(BlockPos pos, BlockState oldState, BlockState newState) {
+        SectionThermalData data = sections.get(ChunkSectionPos.toLong(pos));
+        if (data != null) {
+            data.update(SectionThermalData.index(pos.getX(), pos.getY(), pos.getZ()),
+                    BlockHeat.resolve(world, pos, newState), TemperatureRegistry.getTemperature(newState),
+                    newState.isOpaque());
+        }
+
+        // The heat pyramid summarizes palettes and only knows table temperatures
+        if (!heatPyramid.isSummarized(pos.getX(), pos.getY(), pos.getZ())) return;
+        int oldTemp = TemperatureRegistry.getTemperature(oldState);
+        int newTemp = TemperatureRegistry.getTemperature(newState);
+        if (oldTemp == 0 && newTemp == 0) return;
+        heatPyramid.onBlockChanged(pos.getX(), pos.getY(), pos.getZ(), oldTemp, newTemp);
+    }
+
+    /**
+     * Re-reads the heat provider of a block whose block entity changed. Blocks without
+     * a provider and sections that are not indexed yet are skipped.
+     */
+    public void onBlockEntityChanged(BlockPos pos, BlockState state) {
+        if (!BlockHeat.hasProvider(state)) return;
+
+        SectionThermalData data = sections.get(ChunkSectionPos.toLong(pos));
+        if (data != null) {
+            data.updateTemperature(SectionThermalData.index(pos.getX(), pos.getY(), pos.getZ()),
+                    BlockHeat.resolve(world, pos, state), TemperatureRegistry.getTemperature(state));
+        }
+    }
+
+    public void onChunkUnload(ChunkPos pos) {
+        ChunkClimateData removed = chunks.remove(pos.toLong());
+        if (removed != null && removed == lastChunk) {
+            lastChunk = null;
+        }
+
+        int bottom = source.getBottomSectionCoord();
+        int top = source.getTopSectionCoord();
+        for (int sectionY = bottom; sectionY < top; sectionY++) {
+            sections.remove(ChunkSectionPos.asLong(pos.x, sectionY, pos.z));
+        }
+        heatPyramid.onChunkChanged(pos);
+        lastSectionKey = Long.MIN_VALUE;
+        lastSection = null;
+    }
+
+    public void invalidateAll() {
+        chunks.clear();
+        sections.clear();
+        heatPyramid.clear();
+        lastChunk = null;
+        lastSectionKey = Long.MIN_VALUE;
+        lastSection = null;
+    }
+
+    public int getCachedChunkCount() {
+        return chunks.size();
+    }
+
+    public int getCachedSectionCount() {
+        return sections.size();
+    }
+}
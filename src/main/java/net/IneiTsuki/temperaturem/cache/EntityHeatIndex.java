@@ -0,0 +1,177 @@
+package net.IneiTsuki.temperaturem.cache;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.IneiTsuki.temperaturem.data.EntityTemperatureRegistry;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.TypeFilter;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Entities that give off or absorb heat around each chunk section, looked up through
+ * the world's entity sections once per section and tick.
+ * <p>
+ * The first evaluation in a section runs one bounded lookup over the section grown by
+ * {@link #RADIUS}; every later evaluation in that section and tick, whichever player it
+ * is for, reuses the result. The lookup stops after {@link #MAX_SOURCES} sources, so a
+ * packed mob farm costs no more than a crowded room. Source buffers are pooled and
+ * reused across ticks. Only touched by the thread that owns the world.
+ */
+public class EntityHeatIndex {
+
+    public static final int RADIUS = 6;
+    private static final double RADIUS_SQ = RADIUS * RADIUS;
+    private static final int MAX_SOURCES = 32;   // Per section and tick
+    private static final int BURNING_TEMPERATURE = 40;
+
+    private static final TypeFilter<Entity, Entity> ANY_ENTITY = TypeFilter.instanceOf(Entity.class);
+    private static final Predicate<Entity> IS_SOURCE = entity -> entity.isAlive() && !entity.isSpectator()
+            && (entity.isOnFire() || EntityTemperatureRegistry.hasTemperature(entity.getType()));
+
+    private static final Map<World, EntityHeatIndex> INSTANCES = new ConcurrentHashMap<>();
+
+    private final World world;
+    private final Long2ObjectOpenHashMap<Sources> sections = new Long2ObjectOpenHashMap<>();
+    private final List<Sources> inUse = new ArrayList<>();
+    private final ArrayDeque<Sources> pool = new ArrayDeque<>();
+    private final List<Entity> found = new ArrayList<>(MAX_SOURCES);
+
+    private long tick = Long.MIN_VALUE;
+
+    // Most recently used section, evaluations arrive grouped by section
+    private long lastSectionKey = Long.MIN_VALUE;
+    private Sources lastSources;
+
+    private EntityHeatIndex(World world) {
+        this.world = world;
+    }
+
+    public static EntityHeatIndex get(World world) {
+        return INSTANCES.computeIfAbsent(world, EntityHeatIndex::new);
+    }
+
+    public static void clearInstances() {
+        INSTANCES.clear();
+    }
+
+    // ===== Lookup =====
+
+    /**
+     * Sums the distance weighted temperatures of heat giving entities around a block.
+     * An entity standing in the block itself is skipped, it is the one being evaluated.
+     *
+     * @param time The world time, the per-section results are dropped when it changes
+     */
+    public double getInfluence(long time, BlockPos pos) {
+        Sources sources = getSources(time, pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        if (sources.count == 0) return 0.0;
+
+        double cx = pos.getX() + 0.5;
+        double cy = pos.getY() + 0.5;
+        double cz = pos.getZ() + 0.5;
+        long occupant = pos.asLong();
+
+        double total = 0.0;
+        for (int i = 0; i < sources.count; i++) {
+            if (sources.blocks[i] == occupant) continue;
+
+            double dx = sources.x[i] - cx;
+            double dy = sources.y[i] - cy;
+            double dz = sources.z[i] - cz;
+            double distanceSq = dx * dx + dy * dy + dz * dz;
+            if (distanceSq >= RADIUS_SQ) continue;
+
+            total += sources.temperatures[i] * (1.0 - Math.sqrt(distanceSq) / RADIUS);
+        }
+        return total;
+    }
+
+    private Sources getSources(long time, int sx, int sy, int sz) {
+        if (time != tick) {
+            reset();
+            tick = time;
+        }
+
+        long key = ChunkSectionPos.asLong(sx, sy, sz);
+        if (key == lastSectionKey) {
+            return lastSources;
+        }
+
+        Sources sources = sections.get(key);
+        if (sources == null) {
+            sources = collect(sx, sy, sz);
+            sections.put(key, sources);
+        }
+
+        lastSectionKey = key;
+        lastSources = sources;
+        return sources;
+    }
+
+    private Sources collect(int sx, int sy, int sz) {
+        Sources sources = pool.isEmpty() ? new Sources() : pool.pop();
+        sources.count = 0;
+        inUse.add(sources);
+
+        int minX = sx << 4;
+        int minY = sy << 4;
+        int minZ = sz << 4;
+        Box box = new Box(minX - RADIUS, minY - RADIUS, minZ - RADIUS,
+                minX + 16 + RADIUS, minY + 16 + RADIUS, minZ + 16 + RADIUS);
+        world.collectEntitiesByType(ANY_ENTITY, box, IS_SOURCE, found, MAX_SOURCES);
+
+        for (int i = 0; i < found.size(); i++) {
+            Entity entity = found.get(i);
+            int temperature = EntityTemperatureRegistry.getTemperature(entity.getType());
+            if (entity.isOnFire()) {
+                temperature = Math.max(temperature, BURNING_TEMPERATURE);
+            }
+            sources.add(entity.getX(), entity.getBodyY(0.5), entity.getZ(),
+                    entity.getBlockPos().asLong(), temperature);
+        }
+        found.clear();
+
+        return sources;
+    }
+
+    private void reset() {
+        for (int i = 0; i < inUse.size(); i++) {
+            pool.push(inUse.get(i));
+        }
+        inUse.clear();
+        sections.clear();
+        lastSectionKey = Long.MIN_VALUE;
+        lastSources = null;
+    }
+
+    /**
+     * The heat sources around one section, as parallel arrays.
+     */
+    private static class Sources {
+        final double[] x = new double[MAX_SOURCES];
+        final double[] y = new double[MAX_SOURCES];
+        final double[] z = new double[MAX_SOURCES];
+        final long[] blocks = new long[MAX_SOURCES];
+        final int[] temperatures = new int[MAX_SOURCES];
+        int count;
+
+        void add(double x, double y, double z, long block, int temperature) {
+            if (count >= MAX_SOURCES) return;
+            this.x[count] = x;
+            this.y[count] = y;
+            this.z[count] = z;
+            this.blocks[count] = block;
+            this.temperatures[count] = temperature;
+            count++;
+        }
+    }
+}
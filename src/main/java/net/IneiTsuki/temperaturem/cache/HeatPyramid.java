@@ -0,0 +1,319 @@
+package net.IneiTsuki.temperaturem.cache;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.IneiTsuki.temperaturem.data.TemperatureRegistry;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.ChunkSection;
+
+/**
+ * Multi-resolution summary of block heat used for long-range sources. Heat is
+ * aggregated per section (16 blocks), per chunk cell (2x2x2 sections, 32 blocks)
+ * and per region cell (4x4x4 sections, 64 blocks). Far sources are sampled from
+ * the coarse levels and nearby ones from section totals, so a 32 block radius
+ * costs a few dozen map reads instead of tens of thousands of block reads.
+ * <p>
+ * Regions are summarized lazily from the chunk palettes and kept up to date
+ * incrementally from block changes. Loading or unloading a chunk drops the
+ * regions it belongs to.
+ */
+public class HeatPyramid {
+
+    private static final int CHUNK_SHIFT = 1;  // Sections per chunk cell axis = 2
+    private static final int REGION_SHIFT = 2; // Sections per region cell axis = 4
+
+    public static final double LONG_RANGE_RADIUS = 32.0;
+    private static final double FADE_RADIUS = LONG_RANGE_RADIUS + 16.0;
+    private static final double CHUNK_LEVEL_DISTANCE = 16.0; // Closer cells descend to sections
+    private static final double FAR_WEIGHT = 0.5;
+    private static final double MIN_FAR_DISTANCE = 8.0;
+
+    private final SectionSource source;
+    private final Long2ObjectOpenHashMap<HeatCell> sectionCells = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<HeatCell> chunkCells = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<HeatCell> regionCells = new Long2ObjectOpenHashMap<>();
+    private int generation;
+
+    HeatPyramid(SectionSource source) {
+        this.source = source;
+        this.generation = TemperatureRegistry.getGeneration();
+    }
+
+    // ===== Sampling =====
+
+    /**
+     * Sums the distance-weighted heat of every source within {@link #LONG_RANGE_RADIUS}
+     * of a position. Sources in the exact near-field scan are included too, callers
+     * subtract them with {@link #getSectionWeight}.
+     */
+    public double sampleFarField(int x, int y, int z) {
+        checkGeneration();
+
+        double px = x + 0.5, py = y + 0.5, pz = z + 0.5;
+        int minRegionX = regionCoord(x - LONG_RANGE_RADIUS), maxRegionX = regionCoord(x + LONG_RANGE_RADIUS);
+        int minRegionY = regionCoord(y - LONG_RANGE_RADIUS), maxRegionY = regionCoord(y + LONG_RANGE_RADIUS);
+        int minRegionZ = regionCoord(z - LONG_RANGE_RADIUS), maxRegionZ = regionCoord(z + LONG_RANGE_RADIUS);
+
+        double total = 0;
+        for (int rx = minRegionX; rx <= maxRegionX; rx++) {
+            for (int ry = minRegionY; ry <= maxRegionY; ry++) {
+                for (int rz = minRegionZ; rz <= maxRegionZ; rz++) {
+                    HeatCell region = getRegion(rx, ry, rz);
+                    if (region == null || region.isEmpty()) continue;
+                    total += sampleChunkCells(rx, ry, rz, px, py, pz);
+                }
+            }
+        }
+        return total;
+    }
+
+    private double sampleChunkCells(int rx, int ry, int rz, double px, double py, double pz) {
+        int span = 1 << (REGION_SHIFT - CHUNK_SHIFT);
+        double total = 0;
+
+        for (int cx = rx * span; cx < (rx + 1) * span; cx++) {
+            for (int cy = ry * span; cy < (ry + 1) * span; cy++) {
+                for (int cz = rz * span; cz < (rz + 1) * span; cz++) {
+                    HeatCell cell = chunkCells.get(ChunkSectionPos.asLong(cx, cy, cz));
+                    if (cell == null || cell.isEmpty()) continue;
+
+                    double nearest = distanceToCell(px, py, pz, cx, cy, cz, CHUNK_SHIFT);
+                    if (nearest > LONG_RANGE_RADIUS) continue;
+
+                    if (nearest >= CHUNK_LEVEL_DISTANCE) {
+                        total += cell.heat * weight(cell, px, py, pz);
+                    } else {
+                        total += sampleSections(cx, cy, cz, px, py, pz);
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    private double sampleSections(int cx, int cy, int cz, double px, double py, double pz) {
+        int span = 1 << CHUNK_SHIFT;
+        double total = 0;
+
+        for (int sx = cx * span; sx < (cx + 1) * span; sx++) {
+            for (int sy = cy * span; sy < (cy + 1) * span; sy++) {
+                for (int sz = cz * span; sz < (cz + 1) * span; sz++) {
+                    HeatCell cell = sectionCells.get(ChunkSectionPos.asLong(sx, sy, sz));
+                    if (cell == null || cell.isEmpty()) continue;
+                    total += cell.heat * weight(cell, px, py, pz);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Gets the weight {@link #sampleFarField} applies to heat in a section, so that
+     * the near-field scan can remove its own sources from the far-field sum.
+     */
+    public double getSectionWeight(int sectionX, int sectionY, int sectionZ, int x, int y, int z) {
+        double dx = (sectionX << 4) + 8 - (x + 0.5);
+        double dy = (sectionY << 4) + 8 - (y + 0.5);
+        double dz = (sectionZ << 4) + 8 - (z + 0.5);
+        return weight(Math.sqrt(dx * dx + dy * dy + dz * dz));
+    }
+
+    private static double weight(HeatCell cell, double px, double py, double pz) {
+        double dx = cell.centroidX() - px;
+        double dy = cell.centroidY() - py;
+        double dz = cell.centroidZ() - pz;
+        return weight(Math.sqrt(dx * dx + dy * dy + dz * dz));
+    }
+
+    private static double weight(double distance) {
+        double clamped = Math.max(MIN_FAR_DISTANCE, distance);
+        double fade = 1.0 - (distance * distance) / (FADE_RADIUS * FADE_RADIUS);
+        if (fade <= 0) return 0;
+        return FAR_WEIGHT * fade / (clamped * clamped);
+    }
+
+    private static double distanceToCell(double px, double py, double pz, int cx, int cy, int cz, int shift) {
+        int size = 16 << shift;
+        double dx = axisDistance(px, cx * size, size);
+        double dy = axisDistance(py, cy * size, size);
+        double dz = axisDistance(pz, cz * size, size);
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    private static double axisDistance(double p, int min, int size) {
+        if (p < min) return min - p;
+        if (p > min + size) return p - (min + size);
+        return 0;
+    }
+
+    private static int regionCoord(double blockCoord) {
+        return ((int) Math.floor(blockCoord)) >> (4 + REGION_SHIFT);
+    }
+
+    // ===== Building =====
+
+    private HeatCell getRegion(int rx, int ry, int rz) {
+        long key = ChunkSectionPos.asLong(rx, ry, rz);
+        HeatCell region = regionCells.get(key);
+        if (region == null) {
+            region = buildRegion(rx, ry, rz);
+            regionCells.put(key, region);
+        }
+        return region;
+    }
+
+    private HeatCell buildRegion(int rx, int ry, int rz) {
+        HeatCell region = new HeatCell();
+        int span = 1 << REGION_SHIFT;
+
+        for (int sx = rx * span; sx < (rx + 1) * span; sx++) {
+            for (int sz = rz * span; sz < (rz + 1) * span; sz++) {
+                for (int sy = ry * span; sy < (ry + 1) * span; sy++) {
+                    long chunkKey = ChunkSectionPos.asLong(sx >> CHUNK_SHIFT, sy >> CHUNK_SHIFT, sz >> CHUNK_SHIFT);
+                    HeatCell chunkCell = chunkCells.get(chunkKey);
+                    if (chunkCell == null) {
+                        chunkCell = new HeatCell();
+                        chunkCells.put(chunkKey, chunkCell);
+                    }
+
+                    HeatCell sectionCell = new HeatCell();
+                    ChunkSection section = source.getSection(sx, sy, sz);
+                    if (section != null) {
+                        summarize(section, sectionCell, sx, sy, sz);
+                    }
+                    sectionCells.put(ChunkSectionPos.asLong(sx, sy, sz), sectionCell);
+
+                    chunkCell.add(sectionCell);
+                    region.add(sectionCell);
+                }
+            }
+        }
+        return region;
+    }
+
+    private static void summarize(ChunkSection section, HeatCell cell, int sx, int sy, int sz) {
+        if (section.isEmpty()) return;
+
+        double centerX = (sx << 4) + 8, centerY = (sy << 4) + 8, centerZ = (sz << 4) + 8;
+        section.getBlockStateContainer().count((state, count) -> {
+            int temp = TemperatureRegistry.getTemperature(state);
+            if (temp != 0) {
+                cell.add((long) temp * count, (long) Math.abs(temp) * count, count, centerX, centerY, centerZ);
+            }
+        });
+    }
+
+    // ===== Incremental Updates =====
+
+    /**
+     * Whether the section holding a block has been summarized, so its changes matter.
+     */
+    boolean isSummarized(int x, int y, int z) {
+        return sectionCells.containsKey(ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4));
+    }
+
+    void onBlockChanged(int x, int y, int z, int oldTemp, int newTemp) {
+        if (oldTemp == newTemp) return;
+
+        int sx = x >> 4, sy = y >> 4, sz = z >> 4;
+        HeatCell sectionCell = sectionCells.get(ChunkSectionPos.asLong(sx, sy, sz));
+        if (sectionCell == null) return; // Region not summarized yet
+
+        long heat = newTemp - oldTemp;
+        long absHeat = Math.abs(newTemp) - Math.abs(oldTemp);
+        int sources = (newTemp != 0 ? 1 : 0) - (oldTemp != 0 ? 1 : 0);
+        double centerX = (sx << 4) + 8, centerY = (sy << 4) + 8, centerZ = (sz << 4) + 8;
+
+        sectionCell.add(heat, absHeat, sources, centerX, centerY, centerZ);
+        HeatCell chunkCell = chunkCells.get(ChunkSectionPos.asLong(sx >> CHUNK_SHIFT, sy >> CHUNK_SHIFT, sz >> CHUNK_SHIFT));
+        if (chunkCell != null) chunkCell.add(heat, absHeat, sources, centerX, centerY, centerZ);
+        HeatCell region = regionCells.get(ChunkSectionPos.asLong(sx >> REGION_SHIFT, sy >> REGION_SHIFT, sz >> REGION_SHIFT));
+        if (region != null) region.add(heat, absHeat, sources, centerX, centerY, centerZ);
+    }
+
+    /**
+     * Drops every region column containing a chunk that was loaded or unloaded.
+     */
+    void onChunkChanged(ChunkPos pos) {
+        int rx = pos.x >> REGION_SHIFT;
+        int rz = pos.z >> REGION_SHIFT;
+        int span = 1 << REGION_SHIFT;
+        int minRegionY = source.getBottomSectionCoord() >> REGION_SHIFT;
+        int maxRegionY = (source.getTopSectionCoord() - 1) >> REGION_SHIFT;
+
+        for (int ry = minRegionY; ry <= maxRegionY; ry++) {
+            if (regionCells.remove(ChunkSectionPos.asLong(rx, ry, rz)) == null) continue;
+
+            for (int sx = rx * span; sx < (rx + 1) * span; sx++) {
+                for (int sy = ry * span; sy < (ry + 1) * span; sy++) {
+                    for (int sz = rz * span; sz < (rz + 1) * span; sz++) {
+                        sectionCells.remove(ChunkSectionPos.asLong(sx, sy, sz));
+                        chunkCells.remove(ChunkSectionPos.asLong(sx >> CHUNK_SHIFT, sy >> CHUNK_SHIFT, sz >> CHUNK_SHIFT));
+                    }
+                }
+            }
+        }
+    }
+
+    private void checkGeneration() {
+        int current = TemperatureRegistry.getGeneration();
+        if (generation != current) {
+            clear();
+            generation = current;
+        }
+    }
+
+    void clear() {
+        sectionCells.clear();
+        chunkCells.clear();
+        regionCells.clear();
+    }
+
+    public int getCachedRegionCount() {
+        return regionCells.size();
+    }
+
+    // ===== Cells =====
+
+    private static final class HeatCell {
+        long heat;
+        long absHeat;
+        int sources;
+        // Source positions weighted by absolute heat, for the centroid
+        double weightedX, weightedY, weightedZ;
+
+        void add(long heat, long absHeat, int sources, double x, double y, double z) {
+            this.heat += heat;
+            this.absHeat += absHeat;
+            this.sources += sources;
+            this.weightedX += absHeat * x;
+            this.weightedY += absHeat * y;
+            this.weightedZ += absHeat * z;
+        }
+
+        void add(HeatCell other) {
+            this.heat += other.heat;
+            this.absHeat += other.absHeat;
+            this.sources += other.sources;
+            this.weightedX += other.weightedX;
+            this.weightedY += other.weightedY;
+            this.weightedZ += other.weightedZ;
+        }
+
+        boolean isEmpty() {
+            return sources <= 0;
+        }
+
+        double centroidX() {
+            return weightedX / absHeat;
+        }
+
+        double centroidY() {
+            return weightedY / absHeat;
+        }
+
+        double centroidZ() {
+            return weightedZ / absHeat;
+        }
+    }
+}
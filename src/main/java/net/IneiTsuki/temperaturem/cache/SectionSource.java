@@ -0,0 +1,47 @@
+package net.IneiTsuki.temperaturem.cache;
+
+import net.minecraft.world.HeightLimitView;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Supplies the chunk sections the heat index and heat pyramid are built from.
+ * Worlds provide their loaded chunks; benchmarks provide synthetic sections.
+ */
+public interface SectionSource extends HeightLimitView {
+
+    /**
+     * Gets a chunk section without loading anything.
+     *
+     * @return The section, or null if it is outside the height limit or its chunk is not loaded
+     */
+    @Nullable
+    ChunkSection getSection(int sectionX, int sectionY, int sectionZ);
+
+    static SectionSource of(World world) {
+        return new SectionSource() {
+            @Override
+            public ChunkSection getSection(int sectionX, int sectionY, int sectionZ) {
+                int index = world.sectionCoordToIndex(sectionY);
+                if (index < 0 || index >= world.countVerticalSections()) {
+                    return null;
+                }
+
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(sectionX, sectionZ, false);
+                return chunk != null ? chunk.getSection(index) : null;
+            }
+
+            @Override
+            public int getHeight() {
+                return world.getHeight();
+            }
+
+            @Override
+            public int getBottomY() {
+                return world.getBottomY();
+            }
+        };
+    }
+}
@@ -0,0 +1,205 @@
+package net.IneiTsuki.temperaturem.cache;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.IneiTsuki.temperaturem.data.TemperatureRegistry;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+
+/**
+ * Heat index for one 16x16x16 chunk section: the registry temperature of every
+ * block plus a 4096-bit opacity bitset. Both arrays stay null while the section
+ * has no heat sources or no opaque blocks, so empty sections cost almost nothing.
+ * <p>
+ * Where a heat provider gives a block another temperature than the static table, the
+ * table temperatures are kept as well, since the {@link HeatPyramid} only knows those.
+ */
+public class SectionThermalData {
+
+    public static final int SIZE = 16 * 16 * 16;
+
+    // Marks states whose temperature comes from a heat provider while building
+    private static final int PER_POSITION = Integer.MAX_VALUE;
+
+    private short[] temps;
+    private short[] tableTemps; // Null while no provider overrides the table
+    private long[] opacity;
+    private int sourceCount;
+    private int overrides;
+    private final int generation;
+
+    private SectionThermalData(int generation) {
+        this.generation = generation;
+    }
+
+    public static SectionThermalData empty() {
+        return new SectionThermalData(TemperatureRegistry.getGeneration());
+    }
+
+    public static SectionThermalData build(ChunkSection section) {
+        return build(section, null, 0, 0, 0);
+    }
+
+    /**
+     * Builds the index of a world section, resolving blocks with a heat provider at
+     * their position.
+     *
+     * @param world The world the section belongs to, or null to use the static table only
+     */
+    public static SectionThermalData build(ChunkSection section, World world, int sectionX, int sectionY, int sectionZ) {
+        SectionThermalData data = empty();
+        if (section == null || section.isEmpty()) {
+            return data;
+        }
+
+        // Ask the palette first, most sections have no heat sources and many no opaque blocks
+        boolean sources = section.hasAny(state -> TemperatureRegistry.getTemperature(state) != 0
+                || world != null && BlockHeat.hasProvider(state));
+        boolean opaque = section.hasAny(BlockState::isOpaque);
+        if (!sources && !opaque) {
+            return data;
+        }
+
+        // Sections hold few distinct states, resolve each one once
+        Reference2IntOpenHashMap<BlockState> resolved = new Reference2IntOpenHashMap<>();
+        resolved.defaultReturnValue(Integer.MIN_VALUE);
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    BlockState state = section.getBlockState(x, y, z);
+                    int index = index(x, y, z);
+                    if (opaque) {
+                        data.setOpaque(index, state.isOpaque());
+                    }
+                    if (!sources) continue;
+
+                    int temp = resolved.getInt(state);
+                    if (temp == Integer.MIN_VALUE) {
+                        temp = world != null && BlockHeat.hasProvider(state)
+                                ? PER_POSITION : TemperatureRegistry.getTemperature(state);
+                        resolved.put(state, temp);
+                    }
+                    int tableTemp = temp;
+                    if (temp == PER_POSITION) {
+                        pos.set((sectionX << 4) + x, (sectionY << 4) + y, (sectionZ << 4) + z);
+                        temp = BlockHeat.resolve(world, pos, state);
+                        tableTemp = TemperatureRegistry.getTemperature(state);
+                    }
+                    data.setTemperature(index, temp, tableTemp);
+                }
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * Copies this section so it can be read while the original keeps receiving updates.
+     */
+    public SectionThermalData copy() {
+        SectionThermalData copy = new SectionThermalData(generation);
+        copy.temps = temps != null ? temps.clone() : null;
+        copy.tableTemps = tableTemps != null ? tableTemps.clone() : null;
+        copy.opacity = opacity != null ? opacity.clone() : null;
+        copy.sourceCount = sourceCount;
+        copy.overrides = overrides;
+        return copy;
+    }
+
+    public static int index(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    // ===== Queries =====
+
+    public int getTemperature(int index) {
+        return temps != null ? temps[index] : 0;
+    }
+
+    /**
+     * Gets the static table temperature of a block, ignoring heat providers. This is
+     * what the {@link HeatPyramid} summed for it.
+     */
+    public int getTableTemperature(int index) {
+        return tableTemps != null ? tableTemps[index] : getTemperature(index);
+    }
+
+    public boolean isOpaque(int index) {
+        return opacity != null && (opacity[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public boolean hasSources() {
+        return sourceCount > 0;
+    }
+
+    public int getSourceCount() {
+        return sourceCount;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    // ===== Updates =====
+
+    void update(int index, int temp, int tableTemp, boolean opaque) {
+        setTemperature(index, temp, tableTemp);
+        setOpaque(index, opaque);
+    }
+
+    void updateTemperature(int index, int temp, int tableTemp) {
+        setTemperature(index, temp, tableTemp);
+    }
+
+    private void setTemperature(int index, int temp, int tableTemp) {
+        boolean wasOverridden = tableTemps != null && tableTemps[index] != getTemperature(index);
+        boolean overridden = temp != tableTemp;
+        if (overridden && tableTemps == null) {
+            // Every other block still matches the table
+            tableTemps = temps != null ? temps.clone() : new short[SIZE];
+        }
+
+        setResolvedTemperature(index, temp);
+
+        if (tableTemps != null) {
+            tableTemps[index] = (short) tableTemp;
+            if (overridden != wasOverridden) {
+                overrides += overridden ? 1 : -1;
+            }
+            if (overrides == 0) {
+                tableTemps = null;
+            }
+        }
+    }
+
+    private void setResolvedTemperature(int index, int temp) {
+        int old = getTemperature(index);
+        if (old == temp) return;
+
+        if (temps == null) {
+            temps = new short[SIZE];
+        }
+        temps[index] = (short) temp;
+
+        if (old == 0) sourceCount++;
+        else if (temp == 0) sourceCount--;
+
+        if (sourceCount == 0) {
+            temps = null;
+        }
+    }
+
+    private void setOpaque(int index, boolean opaque) {
+        if (opaque) {
+            if (opacity == null) {
+                opacity = new long[SIZE / 64];
+            }
+            opacity[index >>> 6] |= 1L << index;
+        } else if (opacity != null) {
+            opacity[index >>> 6] &= ~(1L << index);
+        }
+    }
+}
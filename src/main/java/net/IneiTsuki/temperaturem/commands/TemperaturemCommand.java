@@ -0,0 +1,185 @@
+package net.IneiTsuki.temperaturem.commands;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.IneiTsuki.temperaturem.profiling.HotspotTracker;
+import net.IneiTsuki.temperaturem.profiling.LatencyHistogram;
+import net.IneiTsuki.temperaturem.profiling.TemperatureProfiler;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class TemperaturemCommand {
+
+    private static final int DEFAULT_HOTSPOTS = 10;
+
+    public static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
+        dispatcher.register(CommandManager.literal("temperaturem")
+                .requires(source -> source.hasPermissionLevel(2))
+
+                // /temperaturem profile start|stop|report
+                .then(CommandManager.literal("profile")
+                        .then(CommandManager.literal("start")
+                                .executes(TemperaturemCommand::startProfile))
+                        .then(CommandManager.literal("stop")
+                                .executes(TemperaturemCommand::stopProfile))
+                        .then(CommandManager.literal("report")
+                                .executes(TemperaturemCommand::profileReport)))
+
+                // /temperaturem hotspots [count]
+                .then(CommandManager.literal("hotspots")
+                        .executes(context -> listHotspots(context, DEFAULT_HOTSPOTS))
+                        .then(CommandManager.argument("count", IntegerArgumentType.integer(1, 50))
+                                .executes(context -> listHotspots(context,
+                                        IntegerArgumentType.getInteger(context, "count")))))
+        );
+    }
+
+    // ===== Profiling =====
+
+    private static int startProfile(CommandContext<ServerCommandSource> context) {
+        TemperatureProfiler.begin();
+        context.getSource().sendFeedback(() -> Text.literal("Temperature profiling started")
+                .formatted(Formatting.GREEN), true);
+        return 1;
+    }
+
+    private static int stopProfile(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        if (!TemperatureProfiler.isRunning()) {
+            source.sendError(Text.literal("Temperature profiling is not running"));
+            return 0;
+        }
+
+        TemperatureProfiler.stop();
+        source.sendFeedback(() -> Text.literal(String.format("Temperature profiling stopped after %.1fs",
+                TemperatureProfiler.getDurationMillis() / 1000.0)).formatted(Formatting.YELLOW), true);
+        return 1;
+    }
+
+    private static int profileReport(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        Map<RegistryKey<World>, TemperatureProfiler.WorldProfile> profiles = TemperatureProfiler.getProfiles();
+
+        if (profiles.isEmpty()) {
+            source.sendError(Text.literal("No profiling data, use /temperaturem profile start"));
+            return 0;
+        }
+
+        source.sendFeedback(() -> Text.literal(String.format("=== Temperature Profile (%.1fs%s) ===",
+                        TemperatureProfiler.getDurationMillis() / 1000.0,
+                        TemperatureProfiler.isRunning() ? ", running" : ""))
+                .formatted(Formatting.GOLD, Formatting.BOLD), false);
+
+        for (Map.Entry<RegistryKey<World>, TemperatureProfiler.WorldProfile> entry : profiles.entrySet()) {
+            TemperatureProfiler.WorldProfile profile = entry.getValue();
+
+            source.sendFeedback(() -> Text.literal(entry.getKey().getValue().toString())
+                    .formatted(Formatting.AQUA), false);
+
+            for (TemperatureProfiler.Phase phase : TemperatureProfiler.Phase.values()) {
+                LatencyHistogram histogram = profile.getHistogram(phase);
+                if (histogram.getTotalCount() == 0) continue;
+
+                source.sendFeedback(() -> Text.literal(String.format("  %s: n=%d p50=%s p99=%s max=%s",
+                                phase.name().toLowerCase(), histogram.getTotalCount(),
+                                formatNanos(histogram.getValueAtPercentile(50)),
+                                formatNanos(histogram.getValueAtPercentile(99)),
+                                formatNanos(histogram.getMax())))
+                        .formatted(Formatting.GRAY), false);
+            }
+
+            for (Map.Entry<Identifier, LatencyHistogram> stage : profile.getStageHistograms().entrySet()) {
+                LatencyHistogram histogram = stage.getValue();
+                source.sendFeedback(() -> Text.literal(String.format("  stage %s: n=%d p50=%s p99=%s max=%s",
+                                stage.getKey(), histogram.getTotalCount(),
+                                formatNanos(histogram.getValueAtPercentile(50)),
+                                formatNanos(histogram.getValueAtPercentile(99)),
+                                formatNanos(histogram.getMax())))
+                        .formatted(Formatting.GRAY), false);
+            }
+
+            long hits = profile.getCounter(TemperatureProfiler.Counter.ZONE_CACHE_HITS);
+            long misses = profile.getCounter(TemperatureProfiler.Counter.ZONE_CACHE_MISSES);
+            double hitRate = hits + misses > 0 ? hits * 100.0 / (hits + misses) : 0;
+
+            source.sendFeedback(() -> Text.literal(String.format(
+                            "  evaluations=%d positions scanned=%d zone cache hits=%.1f%% sync packets=%d",
+                            profile.getCounter(TemperatureProfiler.Counter.EVALUATIONS),
+                            profile.getCounter(TemperatureProfiler.Counter.POSITIONS_SCANNED),
+                            hitRate,
+                            profile.getCounter(TemperatureProfiler.Counter.SYNC_PACKETS)))
+                    .formatted(Formatting.WHITE), false);
+        }
+
+        return 1;
+    }
+
+    // ===== Hotspots =====
+
+    private static int listHotspots(CommandContext<ServerCommandSource> context, int count) {
+        ServerCommandSource source = context.getSource();
+        ServerWorld world = source.getWorld();
+        List<HotspotTracker.Hotspot> hotspots = HotspotTracker.get(world).getHotspots(count);
+
+        if (hotspots.isEmpty()) {
+            source.sendFeedback(() -> Text.literal("No temperature evaluations in the last "
+                    + HotspotTracker.getWindowSeconds() + "s").formatted(Formatting.YELLOW), false);
+            return 0;
+        }
+
+        source.sendFeedback(() -> Text.literal(String.format("=== Temperature Hotspots in %s (last %ds) ===",
+                        world.getRegistryKey().getValue(), HotspotTracker.getWindowSeconds()))
+                .formatted(Formatting.GOLD, Formatting.BOLD), false);
+
+        int rank = 1;
+        for (HotspotTracker.Hotspot hotspot : hotspots) {
+            int index = rank++;
+            source.sendFeedback(() -> Text.literal(String.format("%d. Chunk [%d, %d] (block %d, %d)",
+                            index, hotspot.getPos().x, hotspot.getPos().z,
+                            hotspot.getPos().getCenterX(), hotspot.getPos().getCenterZ()))
+                    .formatted(Formatting.AQUA), false);
+
+            source.sendFeedback(() -> Text.literal(String.format("   total=%s evaluations=%d mean=%s sources=%.1f",
+                            formatNanos(hotspot.getTotalNanos()), hotspot.getEvaluations(),
+                            formatNanos((long) hotspot.getMeanNanos()), hotspot.getMeanSources()))
+                    .formatted(Formatting.GRAY), false);
+
+            List<String> players = getPlayersInChunk(world, hotspot);
+            if (!players.isEmpty()) {
+                source.sendFeedback(() -> Text.literal("   players: " + String.join(", ", players))
+                        .formatted(Formatting.WHITE), false);
+            }
+        }
+
+        return hotspots.size();
+    }
+
+    private static List<String> getPlayersInChunk(ServerWorld world, HotspotTracker.Hotspot hotspot) {
+        List<String> names = new ArrayList<>();
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            if (player.getChunkPos().equals(hotspot.getPos())) {
+                names.add(player.getEntityName());
+            }
+        }
+        return names;
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000) {
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        }
+        return String.format("%.1fus", nanos / 1_000.0);
+    }
+}
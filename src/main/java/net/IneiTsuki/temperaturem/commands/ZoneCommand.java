@@ -6,7 +6,10 @@ import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import net.IneiTsuki.temperaturem.api.TemperatureAPI;
+import net.IneiTsuki.temperaturem.zones.CylinderShape;
+import net.IneiTsuki.temperaturem.zones.SphereShape;
 import net.IneiTsuki.temperaturem.zones.TemperatureZone;
+import net.IneiTsuki.temperaturem.zones.ZoneShape;
 import net.minecraft.command.argument.BlockPosArgumentType;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
@@ -39,6 +42,37 @@ public class ZoneCommand {
                                                                 })
                                                                 .executes(ZoneCommand::createZone)))))))
 
+                // /tempzone createsphere <name> <center> <radius> <temperature> <type>
+                .then(CommandManager.literal("createsphere")
+                        .then(CommandManager.argument("name", StringArgumentType.word())
+                                .then(CommandManager.argument("center", BlockPosArgumentType.blockPos())
+                                        .then(CommandManager.argument("radius", DoubleArgumentType.doubleArg(1, 512))
+                                                .then(CommandManager.argument("temperature", DoubleArgumentType.doubleArg(-273, 1000))
+                                                        .then(CommandManager.argument("type", StringArgumentType.word())
+                                                                .suggests((context, builder) -> {
+                                                                    builder.suggest("ADDITIVE");
+                                                                    builder.suggest("ABSOLUTE");
+                                                                    builder.suggest("MULTIPLIER");
+                                                                    return builder.buildFuture();
+                                                                })
+                                                                .executes(ZoneCommand::createSphereZone)))))))
+
+                // /tempzone createcylinder <name> <base> <radius> <height> <temperature> <type>
+                .then(CommandManager.literal("createcylinder")
+                        .then(CommandManager.argument("name", StringArgumentType.word())
+                                .then(CommandManager.argument("base", BlockPosArgumentType.blockPos())
+                                        .then(CommandManager.argument("radius", DoubleArgumentType.doubleArg(1, 512))
+                                                .then(CommandManager.argument("height", IntegerArgumentType.integer(1, 4064))
+                                                        .then(CommandManager.argument("temperature", DoubleArgumentType.doubleArg(-273, 1000))
+                                                                .then(CommandManager.argument("type", StringArgumentType.word())
+                                                                        .suggests((context, builder) -> {
+                                                                            builder.suggest("ADDITIVE");
+                                                                            builder.suggest("ABSOLUTE");
+                                                                            builder.suggest("MULTIPLIER");
+                                                                            return builder.buildFuture();
+                                                                        })
+                                                                        .executes(ZoneCommand::createCylinderZone))))))))
+
                 // /tempzone remove <zone_id>
                 .then(CommandManager.literal("remove")
                         .then(CommandManager.argument("zone_id", StringArgumentType.word())
@@ -116,6 +150,59 @@ public class ZoneCommand {
         }
     }
 
+    private static int createSphereZone(CommandContext<ServerCommandSource> context) {
+        try {
+            BlockPos center = BlockPosArgumentType.getBlockPos(context, "center");
+            double radius = DoubleArgumentType.getDouble(context, "radius");
+            return createShapedZone(context, new SphereShape(
+                    center.getX() + 0.5, center.getY() + 0.5, center.getZ() + 0.5, radius));
+        } catch (Exception e) {
+            context.getSource().sendError(Text.literal("Failed to create zone: " + e.getMessage()));
+            return 0;
+        }
+    }
+
+    private static int createCylinderZone(CommandContext<ServerCommandSource> context) {
+        try {
+            BlockPos base = BlockPosArgumentType.getBlockPos(context, "base");
+            double radius = DoubleArgumentType.getDouble(context, "radius");
+            int height = IntegerArgumentType.getInteger(context, "height");
+            return createShapedZone(context, new CylinderShape(
+                    base.getX() + 0.5, base.getZ() + 0.5, radius, base.getY(), base.getY() + height));
+        } catch (Exception e) {
+            context.getSource().sendError(Text.literal("Failed to create zone: " + e.getMessage()));
+            return 0;
+        }
+    }
+
+    private static int createShapedZone(CommandContext<ServerCommandSource> context, ZoneShape shape) {
+        ServerCommandSource source = context.getSource();
+        ServerWorld world = source.getWorld();
+        String name = StringArgumentType.getString(context, "name");
+        double temperature = DoubleArgumentType.getDouble(context, "temperature");
+        String typeStr = StringArgumentType.getString(context, "type");
+
+        TemperatureZone.ZoneType type;
+        try {
+            type = TemperatureZone.ZoneType.valueOf(typeStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            source.sendError(Text.literal("Invalid zone type. Use: ADDITIVE, ABSOLUTE, or MULTIPLIER"));
+            return 0;
+        }
+
+        TemperatureZone zone = TemperatureAPI.getInstance().createZone(world, name, shape, temperature, type);
+
+        source.sendFeedback(() -> Text.literal("Created temperature zone: ")
+                .formatted(Formatting.GREEN)
+                .append(Text.literal(zone.getName()).formatted(Formatting.AQUA))
+                .append(Text.literal(" (ID: " + zone.getId() + ")").formatted(Formatting.GRAY)), true);
+
+        source.sendFeedback(() -> Text.literal("Shape: " + shape + ", Temperature: " + temperature + "°C, Type: " + type)
+                .formatted(Formatting.GRAY), false);
+
+        return 1;
+    }
+
     private static int removeZone(CommandContext<ServerCommandSource> context) {
         try {
             ServerCommandSource source = context.getSource();
@@ -224,6 +311,10 @@ public class ZoneCommand {
                     .formatted(Formatting.GRAY)
                     .append(Text.literal(zone.getTransitionRange() + " blocks").formatted(Formatting.WHITE)), false);
 
+            source.sendFeedback(() -> Text.literal("Shape: ")
+                    .formatted(Formatting.GRAY)
+                    .append(Text.literal(zone.getShape().toString()).formatted(Formatting.WHITE)), false);
+
             var bounds = zone.getBounds();
             source.sendFeedback(() -> Text.literal("Bounds: ")
                     .formatted(Formatting.GRAY)
@@ -0,0 +1,147 @@
+package net.IneiTsuki.temperaturem.config;
+
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.IneiTsuki.temperaturem.metrics.MetricsExporter;
+import net.IneiTsuki.temperaturem.mobs.MobTemperatureManager;
+import net.IneiTsuki.temperaturem.seasons.SeasonConfig;
+import net.IneiTsuki.temperaturem.seasons.SeasonManager;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Watches {@code config/temperaturem/} for edits to {@code effects.json},
+ * {@code seasons.json}, {@code metrics.json} and {@code mobs.json}. Changed files are parsed and validated
+ * on the watcher thread; valid configs are handed over and applied at the start of the
+ * next server tick, invalid ones are logged and the running config is kept.
+ */
+public class ConfigWatcher {
+
+    private static final Path CONFIG_DIR = Path.of("config", "temperaturem");
+    private static final long DEBOUNCE_MILLIS = 250; // Editors often write a file in several steps
+
+    // Parsed configs waiting for the next tick
+    private static final AtomicReference<TemperatureEffectsConfig> PENDING_EFFECTS = new AtomicReference<>();
+    private static final AtomicReference<SeasonConfig> PENDING_SEASONS = new AtomicReference<>();
+    private static final AtomicReference<MetricsConfig> PENDING_METRICS = new AtomicReference<>();
+    private static final AtomicReference<MobTemperatureConfig> PENDING_MOBS = new AtomicReference<>();
+
+    private static WatchService watchService;
+
+    public static void init() {
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> start());
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> stop());
+        ServerTickEvents.START_SERVER_TICK.register(ConfigWatcher::applyPending);
+    }
+
+    public static synchronized void start() {
+        stop();
+        try {
+            Files.createDirectories(CONFIG_DIR);
+            WatchService service = FileSystems.getDefault().newWatchService();
+            CONFIG_DIR.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchService = service;
+
+            Thread thread = new Thread(() -> run(service), "Temperaturem Config Watcher");
+            thread.setDaemon(true);
+            thread.start();
+        } catch (IOException e) {
+            Temperaturem.LOGGER.error("Failed to watch {} for config changes", CONFIG_DIR, e);
+        }
+    }
+
+    public static synchronized void stop() {
+        if (watchService == null) return;
+        try {
+            // Ends the watcher thread with a ClosedWatchServiceException
+            watchService.close();
+        } catch (IOException e) {
+            Temperaturem.LOGGER.warn("Failed to close config watcher", e);
+        }
+        watchService = null;
+    }
+
+    // ===== Watcher Thread =====
+
+    private static void run(WatchService service) {
+        try {
+            while (true) {
+                Set<String> changed = new HashSet<>();
+                collect(service.take(), changed);
+
+                WatchKey more;
+                while ((more = service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(more, changed);
+                }
+
+                for (String name : changed) {
+                    reload(name);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Stopped
+        }
+    }
+
+    private static void collect(WatchKey key, Set<String> changed) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path) {
+                changed.add(path.getFileName().toString());
+            }
+        }
+        key.reset();
+    }
+
+    private static void reload(String name) {
+        try {
+            switch (name) {
+                case "effects.json" -> PENDING_EFFECTS.set(TemperatureEffectsConfig.read());
+                case "seasons.json" -> PENDING_SEASONS.set(SeasonConfig.read());
+                case "metrics.json" -> PENDING_METRICS.set(MetricsConfig.read());
+                case "mobs.json" -> PENDING_MOBS.set(MobTemperatureConfig.read());
+                default -> {
+                }
+            }
+        } catch (Exception e) {
+            Temperaturem.LOGGER.warn("Ignoring invalid config {}: {}", name, e.getMessage());
+        }
+    }
+
+    // ===== Tick Boundary =====
+
+    private static void applyPending(MinecraftServer server) {
+        TemperatureEffectsConfig effects = PENDING_EFFECTS.getAndSet(null);
+        if (effects != null) {
+            effects.apply();
+            Temperaturem.LOGGER.info("Applied edited effects config");
+        }
+
+        SeasonConfig seasons = PENDING_SEASONS.getAndSet(null);
+        if (seasons != null) {
+            Temperaturem.setSeasonConfig(seasons);
+            SeasonManager.reloadConfig();
+            Temperaturem.LOGGER.info("Applied edited season config");
+        }
+
+        MetricsConfig metrics = PENDING_METRICS.getAndSet(null);
+        if (metrics != null) {
+            Temperaturem.setMetricsConfig(metrics);
+            MetricsExporter.start(server, metrics);
+            Temperaturem.LOGGER.info("Applied edited metrics config");
+        }
+
+        MobTemperatureConfig mobs = PENDING_MOBS.getAndSet(null);
+        if (mobs != null) {
+            Temperaturem.setMobConfig(mobs);
+            MobTemperatureManager.compileTrackedTypes();
+            Temperaturem.LOGGER.info("Applied edited mob temperature config");
+        }
+    }
+}
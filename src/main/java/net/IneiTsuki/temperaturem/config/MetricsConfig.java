@@ -0,0 +1,77 @@
+package net.IneiTsuki.temperaturem.config;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.IneiTsuki.temperaturem.Temperaturem;
+
+import java.io.*;
+
+public class MetricsConfig {
+
+    private static final String CONFIG_PATH = "config/temperaturem/metrics.json";
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    // Default configuration, exporting is off
+    public boolean enabled = false;
+    public boolean httpEnabled = true;
+    public String httpHost = "127.0.0.1"; // Local only unless changed
+    public int httpPort = 9464;
+    public boolean fileEnabled = false;
+    public String filePath = "temperaturem-metrics.prom";
+    public int fileIntervalSeconds = 15;
+
+    public static MetricsConfig load() {
+        File configFile = new File(CONFIG_PATH);
+        MetricsConfig config;
+
+        if (configFile.exists()) {
+            try {
+                config = read();
+                Temperaturem.LOGGER.info("Loaded metrics config");
+            } catch (Exception e) {
+                Temperaturem.LOGGER.error("Failed to load metrics config, using defaults", e);
+                config = new MetricsConfig();
+            }
+        } else {
+            config = new MetricsConfig();
+            config.save();
+            Temperaturem.LOGGER.info("Created default metrics config");
+        }
+
+        return config;
+    }
+
+    /**
+     * Reads and validates the config file.
+     *
+     * @throws Exception if the file cannot be read or holds invalid values
+     */
+    public static MetricsConfig read() throws Exception {
+        try (FileReader reader = new FileReader(CONFIG_PATH)) {
+            MetricsConfig config = GSON.fromJson(reader, MetricsConfig.class);
+            if (config == null) {
+                throw new IOException("Config file is empty");
+            }
+            if (config.httpPort < 0 || config.httpPort > 65535) {
+                throw new IllegalArgumentException("httpPort out of range: " + config.httpPort);
+            }
+            return config;
+        }
+    }
+
+    public void save() {
+        File configFile = new File(CONFIG_PATH);
+        File parentDir = configFile.getParentFile();
+
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+
+        try (FileWriter writer = new FileWriter(configFile)) {
+            GSON.toJson(this, writer);
+            Temperaturem.LOGGER.info("Saved metrics config");
+        } catch (IOException e) {
+            Temperaturem.LOGGER.error("Failed to save metrics config", e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package net.IneiTsuki.temperaturem.config;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.IneiTsuki.temperaturem.Temperaturem;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for the mob temperature simulation, read from {@code config/temperaturem/mobs.json}.
+ * Off by default.
+ */
+public class MobTemperatureConfig {
+
+    private static final String CONFIG_PATH = "config/temperaturem/mobs.json";
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    // General
+    public boolean enabled = false;
+    public List<String> trackedMobs = new ArrayList<>(List.of(
+            "minecraft:zombie", "minecraft:husk", "minecraft:drowned",
+            "minecraft:skeleton", "minecraft:stray", "minecraft:creeper", "minecraft:spider",
+            "minecraft:villager", "minecraft:cow", "minecraft:sheep", "minecraft:pig", "minecraft:chicken"
+    )); // Entity type ids or #tags
+
+    // Cost control
+    public int updateBudget = 256;          // Mob updates per world and tick
+    public int fullDetailRange = 32;        // Blocks from the nearest player
+    public int reducedDetailInterval = 4;   // Mobs beyond fullDetailRange update on every Nth turn
+    public int simulationRange = 128;       // Mobs beyond this are not updated at all
+
+    // Effects
+    public boolean enableStatusEffects = true;
+    public boolean enableDamage = false;
+    public int damageInterval = 40;
+    public float coldDamage = 1.0f;
+    public float hotDamage = 1.0f;
+
+    public static MobTemperatureConfig load() {
+        File file = new File(CONFIG_PATH);
+
+        if (file.exists()) {
+            try {
+                MobTemperatureConfig config = read();
+                Temperaturem.LOGGER.info("Loaded mob temperature config");
+                return config;
+            } catch (Exception e) {
+                Temperaturem.LOGGER.error("Failed to load mob temperature config, using defaults", e);
+            }
+        }
+
+        MobTemperatureConfig config = new MobTemperatureConfig();
+        config.save();
+        Temperaturem.LOGGER.info("Created default mob temperature config");
+        return config;
+    }
+
+    /**
+     * Reads and validates the config file.
+     *
+     * @throws Exception if the file cannot be read or holds invalid values
+     */
+    public static MobTemperatureConfig read() throws Exception {
+        try (FileReader reader = new FileReader(CONFIG_PATH)) {
+            MobTemperatureConfig config = GSON.fromJson(reader, MobTemperatureConfig.class);
+            if (config == null) {
+                throw new IOException("Config file is empty");
+            }
+            config.validate();
+            return config;
+        }
+    }
+
+    private void validate() {
+        if (trackedMobs == null) {
+            trackedMobs = new ArrayList<>();
+        }
+        if (updateBudget < 1) {
+            throw new IllegalArgumentException("updateBudget must be at least 1, got " + updateBudget);
+        }
+        if (reducedDetailInterval < 1) {
+            throw new IllegalArgumentException("reducedDetailInterval must be at least 1, got " + reducedDetailInterval);
+        }
+        if (fullDetailRange < 0 || simulationRange < fullDetailRange) {
+            throw new IllegalArgumentException("simulationRange must be at least fullDetailRange and both positive");
+        }
+        if (damageInterval < 1) {
+            throw new IllegalArgumentException("damageInterval must be at least 1, got " + damageInterval);
+        }
+        if (coldDamage < 0 || hotDamage < 0) {
+            throw new IllegalArgumentException("coldDamage and hotDamage must not be negative");
+        }
+    }
+
+    public void save() {
+        File file = new File(CONFIG_PATH);
+        File parent = file.getParentFile();
+
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+
+        try (FileWriter writer = new FileWriter(file)) {
+            GSON.toJson(this, writer);
+            Temperaturem.LOGGER.info("Saved mob temperature config");
+        } catch (IOException e) {
+            Temperaturem.LOGGER.error("Failed to save mob temperature config", e);
+        }
+    }
+}
@@ -25,8 +25,8 @@ public class TemperatureEffectsConfig {
         TemperatureEffectsConfig config;
 
         if (configFile.exists()) {
-            try (FileReader reader = new FileReader(configFile)) {
-                config = GSON.fromJson(reader, TemperatureEffectsConfig.class);
+            try {
+                config = read();
                 Temperaturem.LOGGER.info("Loaded temperature effects config");
             } catch (Exception e) {
                 Temperaturem.LOGGER.error("Failed to load effects config, using defaults", e);
@@ -44,6 +44,31 @@ public class TemperatureEffectsConfig {
         return config;
     }
 
+    /**
+     * Reads and validates the config file without applying it.
+     *
+     * @throws Exception if the file cannot be read or holds invalid values
+     */
+    public static TemperatureEffectsConfig read() throws Exception {
+        try (FileReader reader = new FileReader(CONFIG_PATH)) {
+            TemperatureEffectsConfig config = GSON.fromJson(reader, TemperatureEffectsConfig.class);
+            if (config == null) {
+                throw new IOException("Config file is empty");
+            }
+            config.validate();
+            return config;
+        }
+    }
+
+    private void validate() {
+        if (damageInterval < 1) {
+            throw new IllegalArgumentException("damageInterval must be at least 1, got " + damageInterval);
+        }
+        if (coldDamage < 0 || hotDamage < 0) {
+            throw new IllegalArgumentException("coldDamage and hotDamage must not be negative");
+        }
+    }
+
     public void save() {
         File configFile = new File(CONFIG_PATH);
         File parentDir = configFile.getParentFile();
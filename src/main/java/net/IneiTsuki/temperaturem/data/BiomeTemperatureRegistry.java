@@ -1,26 +1,45 @@
 package net.IneiTsuki.temperaturem.data;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import net.IneiTsuki.temperaturem.Temperaturem;
-import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.fabricmc.fabric.api.resource.SimpleResourceReloadListener;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.world.biome.Biome;
 
-import java.io.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
-public class BiomeTemperatureRegistry implements SimpleSynchronousResourceReloadListener {
+/**
+ * Biome temperature overrides, merged from the config file and datapacks'
+ * {@code temperaturem/biomes/*.json} like {@link TemperatureRegistry}. Biome tags such
+ * as {@code #minecraft:is_nether} are resolved to a flat biome id map when tags load.
+ */
+public class BiomeTemperatureRegistry implements SimpleResourceReloadListener<TemperatureDefinitions> {
 
     // Persistent runtime registrations (survive reloads)
     private static final Map<Identifier, Integer> RUNTIME_TEMPS = new ConcurrentHashMap<>();
 
-    // Loaded from config (cleared on reload)
-    private static final Map<Identifier, Integer> BIOME_TEMPS = new HashMap<>(256);
+    // Merged file and datapack rules, replaced as a whole on reload
+    private static volatile TemperatureDefinitions definitions = TemperatureDefinitions.EMPTY;
 
-    private static final String CONFIG_PATH = "config/temperaturem/biomes/biome_temperatures.json";
+    // Compiled overrides with tags resolved
+    private static volatile Map<Identifier, Integer> biomeTemps = Map.of();
+
+    private static final TemperatureDefinitions.BaseFile BASE = new TemperatureDefinitions.BaseFile(
+            "config/temperaturem/biomes/biome_temperatures.json",
+            "data/temperaturem/biomes/biome_temperatures.json", "biome temperatures");
+
+    // Bumped whenever biome temperatures change so derived caches can rebuild
+    private static volatile int generation = 0;
 
     @Override
     public Identifier getFabricId() {
@@ -28,56 +47,53 @@ public class BiomeTemperatureRegistry implements SimpleSynchronousResourceReload
     }
 
     @Override
-    public void reload(ResourceManager manager) {
-        BIOME_TEMPS.clear();
-        File configFile = new File(CONFIG_PATH);
-        JsonObject json;
-
-        try {
-            if (configFile.exists()) {
-                try (FileReader reader = new FileReader(configFile)) {
-                    json = JsonParser.parseReader(reader).getAsJsonObject();
-                    Temperaturem.LOGGER.info("Loaded biome temperatures from config");
-                }
-            } else {
-                InputStream defaultStream = BiomeTemperatureRegistry.class
-                        .getClassLoader()
-                        .getResourceAsStream("data/temperaturem/biomes/biome_temperatures.json");
+    public CompletableFuture<TemperatureDefinitions> load(ResourceManager manager, Profiler profiler,
+                                                          Executor executor) {
+        return CompletableFuture.supplyAsync(() -> TemperatureDefinitions.load(
+                manager, BASE.read(), "biomes", Integer::parseInt), executor);
+    }
 
-                if (defaultStream == null) {
-                    Temperaturem.LOGGER.error("Default biome_temperatures.json not found!");
-                    return;
-                }
+    @Override
+    public CompletableFuture<Void> apply(TemperatureDefinitions data, ResourceManager manager, Profiler profiler,
+                                        Executor executor) {
+        return CompletableFuture.runAsync(() -> {
+            // Tags are not bound yet, onTagsLoaded compiles the new rules once they are
+            definitions = data;
+            Temperaturem.LOGGER.info("Loaded {} biome temperature rules ({} runtime)",
+                    data.size(), RUNTIME_TEMPS.size());
+        }, executor);
+    }
 
-                try (InputStreamReader reader = new InputStreamReader(defaultStream)) {
-                    json = JsonParser.parseReader(reader).getAsJsonObject();
-                }
+    /**
+     * Recompiles the overrides against the freshly bound biome tags.
+     */
+    public static void onTagsLoaded(DynamicRegistryManager registries) {
+        compile(registries.get(RegistryKeys.BIOME));
+    }
 
-                File parentDir = configFile.getParentFile();
-                if (parentDir != null && !parentDir.exists()) {
-                    parentDir.mkdirs();
-                }
+    /**
+     * Resolves the merged rules to biome ids.
+     */
+    private static synchronized void compile(Registry<Biome> registry) {
+        Map<Identifier, Integer> compiled = new HashMap<>(256);
 
-                try (FileWriter writer = new FileWriter(configFile)) {
-                    writer.write(json.toString());
+        for (TemperatureDefinitions.Rule rule : definitions.getRules()) {
+            if (!rule.isTag()) {
+                compiled.put(rule.getId(), rule.getTemperature());
+            } else {
+                TagKey<Biome> tag = TagKey.of(RegistryKeys.BIOME, rule.getId());
+                for (RegistryEntry<Biome> entry : registry.iterateEntries(tag)) {
+                    entry.getKey().ifPresent(key -> compiled.put(key.getValue(), rule.getTemperature()));
                 }
             }
+        }
 
-            json.entrySet().forEach(entry -> {
-                try {
-                    int temp = Integer.parseInt(entry.getValue().getAsString());
-                    BIOME_TEMPS.put(new Identifier(entry.getKey()), temp);
-                } catch (Exception e) {
-                    Temperaturem.LOGGER.error("Invalid biome temperature entry '{}'", entry.getKey(), e);
-                }
-            });
-
-            Temperaturem.LOGGER.info("Loaded {} biome temperature entries ({} runtime)",
-                    BIOME_TEMPS.size(), RUNTIME_TEMPS.size());
+        biomeTemps = Map.copyOf(compiled);
+        generation++;
+    }
 
-        } catch (Exception e) {
-            Temperaturem.LOGGER.error("Failed to load biome temperatures", e);
-        }
+    public static int getGeneration() {
+        return generation;
     }
 
     public static Integer getTemperatureOverride(Identifier biomeId) {
@@ -88,12 +104,12 @@ public class BiomeTemperatureRegistry implements SimpleSynchronousResourceReload
             return RUNTIME_TEMPS.get(biomeId);
         }
 
-        return BIOME_TEMPS.get(biomeId);
+        return biomeTemps.get(biomeId);
     }
 
     public static boolean hasOverride(Identifier biomeId) {
         if (biomeId == null) return false;
-        return RUNTIME_TEMPS.containsKey(biomeId) || BIOME_TEMPS.containsKey(biomeId);
+        return RUNTIME_TEMPS.containsKey(biomeId) || biomeTemps.containsKey(biomeId);
     }
 
     public static boolean registerRuntime(Identifier biomeId, int temperature) {
@@ -108,6 +124,7 @@ public class BiomeTemperatureRegistry implements SimpleSynchronousResourceReload
         }
 
         RUNTIME_TEMPS.put(biomeId, temperature);
+        generation++;
         Temperaturem.LOGGER.info("Registered runtime temperature for biome '{}': {}°C", biomeId, temperature);
         return true;
     }
@@ -115,6 +132,7 @@ public class BiomeTemperatureRegistry implements SimpleSynchronousResourceReload
     public static boolean unregisterRuntime(Identifier biomeId) {
         boolean removed = RUNTIME_TEMPS.remove(biomeId) != null;
         if (removed) {
+            generation++;
             Temperaturem.LOGGER.info("Unregistered runtime temperature for biome '{}'", biomeId);
         }
         return removed;
@@ -123,6 +141,7 @@ public class BiomeTemperatureRegistry implements SimpleSynchronousResourceReload
     public static void clearRuntimeRegistrations() {
         int count = RUNTIME_TEMPS.size();
         RUNTIME_TEMPS.clear();
+        generation++;
         Temperaturem.LOGGER.info("Cleared {} runtime biome temperature registrations", count);
     }
 
@@ -0,0 +1,127 @@
+package net.IneiTsuki.temperaturem.data;
+
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.fabricmc.fabric.api.resource.SimpleResourceReloadListener;
+import net.minecraft.entity.EntityType;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.profiler.Profiler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Entity type temperatures (blazes, strays, player body heat), merged from the config
+ * file and datapacks' {@code temperaturem/entities/*.json} like {@link TemperatureRegistry}.
+ * Rules, including entity type tags, are compiled into a table indexed by entity type
+ * raw id so the per-entity check during evaluation is a single array read.
+ */
+public class EntityTemperatureRegistry implements SimpleResourceReloadListener<TemperatureDefinitions> {
+
+    // Merged file and datapack rules, replaced as a whole on reload
+    private static volatile TemperatureDefinitions definitions = TemperatureDefinitions.EMPTY;
+
+    // Compiled lookup table
+    private static volatile EntityTable table = EntityTable.EMPTY;
+
+    private static final TemperatureDefinitions.BaseFile BASE = new TemperatureDefinitions.BaseFile(
+            "config/temperaturem/entities/entity_temperatures.json",
+            "data/temperaturem/entities/entity_temperatures.json", "entity temperatures");
+
+    @Override
+    public Identifier getFabricId() {
+        return new Identifier("temperaturem", "entity_temperature_loader");
+    }
+
+    @Override
+    public CompletableFuture<TemperatureDefinitions> load(ResourceManager manager, Profiler profiler,
+                                                          Executor executor) {
+        return CompletableFuture.supplyAsync(() -> TemperatureDefinitions.load(
+                manager, BASE.read(), "entities", EntityTemperatureRegistry::parseTemperature), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> apply(TemperatureDefinitions data, ResourceManager manager, Profiler profiler,
+                                        Executor executor) {
+        return CompletableFuture.runAsync(() -> {
+            // Tags are not bound yet, onTagsLoaded compiles the new rules once they are
+            definitions = data;
+            Temperaturem.LOGGER.info("Loaded {} entity temperature rules", data.size());
+        }, executor);
+    }
+
+    /**
+     * Recompiles the table against the freshly bound entity type tags.
+     */
+    public static void onTagsLoaded() {
+        compile();
+    }
+
+    private static int parseTemperature(String value) {
+        int avgTemp = IntRange.parse(value).getAverage();
+        if (avgTemp < -273 || avgTemp > 1000) {
+            throw new IllegalArgumentException("Temperature out of range: " + avgTemp + "°C");
+        }
+        return avgTemp;
+    }
+
+    // ===== Compilation =====
+
+    private static synchronized void compile() {
+        int size = Registries.ENTITY_TYPE.size();
+        int[] temps = new int[size];
+        boolean[] defined = new boolean[size];
+
+        for (TemperatureDefinitions.Rule rule : definitions.getRules()) {
+            if (rule.isTag()) {
+                TagKey<EntityType<?>> tag = TagKey.of(RegistryKeys.ENTITY_TYPE, rule.getId());
+                for (RegistryEntry<EntityType<?>> entry : Registries.ENTITY_TYPE.iterateEntries(tag)) {
+                    set(temps, defined, Registries.ENTITY_TYPE.getRawId(entry.value()), rule.getTemperature());
+                }
+            } else {
+                int rawId = Registries.ENTITY_TYPE.getOrEmpty(rule.getId())
+                        .map(Registries.ENTITY_TYPE::getRawId)
+                        .orElse(-1);
+                set(temps, defined, rawId, rule.getTemperature());
+            }
+        }
+
+        table = new EntityTable(temps, defined);
+    }
+
+    private static void set(int[] temps, boolean[] defined, int rawId, int temperature) {
+        if (rawId < 0 || rawId >= temps.length) return;
+        temps[rawId] = temperature;
+        defined[rawId] = true;
+    }
+
+    // ===== Lookup =====
+
+    public static int getTemperature(EntityType<?> type) {
+        EntityTable current = table;
+        int rawId = Registries.ENTITY_TYPE.getRawId(type);
+        return rawId >= 0 && rawId < current.temps.length ? current.temps[rawId] : 0;
+    }
+
+    public static boolean hasTemperature(EntityType<?> type) {
+        EntityTable current = table;
+        int rawId = Registries.ENTITY_TYPE.getRawId(type);
+        return rawId >= 0 && rawId < current.defined.length && current.defined[rawId];
+    }
+
+    private static final class EntityTable {
+        static final EntityTable EMPTY = new EntityTable(new int[0], new boolean[0]);
+
+        final int[] temps;
+        final boolean[] defined;
+
+        EntityTable(int[] temps, boolean[] defined) {
+            this.temps = temps;
+            this.defined = defined;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package net.IneiTsuki.temperaturem.data;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.JsonHelper;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Ordered temperature rules merged from a base file and every datapack's
+ * {@code data/<namespace>/temperaturem/<kind>/*.json}. Rules are applied in order and
+ * later rules win, so the result is compiled into flat lookup tables once tags are bound.
+ * <p>
+ * A datapack file is either a plain {@code "id": value} object like the base file, or
+ * <pre>
+ * { "priority": 10, "replace": false, "values": { "#minecraft:campfires": "45", "minecraft:lava": "100" } }
+ * </pre>
+ * Files are merged in ascending priority, then pack order. {@code replace} discards
+ * everything merged before it. Keys starting with {@code #} are tags; within one file
+ * tags are applied before plain ids so single entries override their tag.
+ */
+public final class TemperatureDefinitions {
+
+    public static final TemperatureDefinitions EMPTY = new TemperatureDefinitions(List.of());
+
+    private final List<Rule> rules;
+
+    private TemperatureDefinitions(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    // ===== Loading =====
+
+    /**
+     * Merges the base file with all datapack files of a kind. Runs on the reload executor.
+     *
+     * @param base   The base object (config file or bundled default), may be null
+     * @param kind   {@code "blocks"} or {@code "biomes"}
+     * @param values Parses and validates a value, throwing on invalid input
+     */
+    public static TemperatureDefinitions load(ResourceManager manager, JsonObject base, String kind,
+                                              ToIntFunction<String> values) {
+        List<Layer> layers = new ArrayList<>();
+        if (base != null) {
+            layers.add(parseLayer(base, Integer.MIN_VALUE, false, "config", values));
+        }
+
+        if (manager != null) {
+            Map<Identifier, List<Resource>> files = manager.findAllResources(
+                    Temperaturem.MOD_ID + "/" + kind, id -> id.getPath().endsWith(".json"));
+
+            for (Map.Entry<Identifier, List<Resource>> file : files.entrySet()) {
+                for (Resource resource : file.getValue()) {
+                    String source = resource.getResourcePackName() + ":" + file.getKey();
+                    try (Reader reader = resource.getReader()) {
+                        JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+                        if (json.has("values")) {
+                            layers.add(parseLayer(JsonHelper.getObject(json, "values"),
+                                    JsonHelper.getInt(json, "priority", 0),
+                                    JsonHelper.getBoolean(json, "replace", false), source, values));
+                        } else {
+                            layers.add(parseLayer(json, 0, false, source, values));
+                        }
+                    } catch (Exception e) {
+                        Temperaturem.LOGGER.error("Failed to read temperature definitions from {}", source, e);
+                    }
+                }
+            }
+        }
+
+        // Stable, so equal priorities keep pack order
+        layers.sort(Comparator.comparingInt(layer -> layer.priority));
+
+        List<Rule> merged = new ArrayList<>();
+        for (Layer layer : layers) {
+            if (layer.replace) {
+                merged.clear();
+            }
+            merged.addAll(layer.rules);
+        }
+
+        return new TemperatureDefinitions(List.copyOf(merged));
+    }
+
+    private static Layer parseLayer(JsonObject json, int priority, boolean replace, String source,
+                                    ToIntFunction<String> values) {
+        List<Rule> tags = new ArrayList<>();
+        List<Rule> ids = new ArrayList<>();
+
+        for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+            String key = entry.getKey();
+            try {
+                int temperature = values.applyAsInt(entry.getValue().getAsString());
+                if (key.startsWith("#")) {
+                    tags.add(new Rule(new Identifier(key.substring(1)), true, temperature));
+                } else {
+                    ids.add(new Rule(new Identifier(key), false, temperature));
+                }
+            } catch (Exception e) {
+                Temperaturem.LOGGER.error("Invalid temperature entry '{}' in {}: {}",
+                        key, source, entry.getValue(), e);
+            }
+        }
+
+        tags.addAll(ids);
+        return new Layer(priority, replace, tags);
+    }
+
+    /**
+     * A base file in the config folder, written from the bundled default when it is
+     * missing. Shared by the block, biome and entity registries. The last successful
+     * read is kept, so a reload with a broken file keeps the previous base layer instead
+     * of dropping it.
+     */
+    public static final class BaseFile {
+        private final String configPath;
+        private final String defaultResource;
+        private final String label;
+        private volatile JsonObject lastRead;
+
+        /**
+         * @param configPath      The file under the game directory
+         * @param defaultResource The bundled default on the classpath
+         * @param label           What the file holds, for log messages
+         */
+        public BaseFile(String configPath, String defaultResource, String label) {
+            this.configPath = configPath;
+            this.defaultResource = defaultResource;
+            this.label = label;
+        }
+
+        /**
+         * Reads the config file, writing the bundled default first if it is missing.
+         * Runs on the reload executor.
+         *
+         * @return The base entries, the previously read ones if the file cannot be read,
+         * or null if it never could
+         */
+        public JsonObject read() {
+            JsonObject json = readFile();
+            if (json != null) {
+                lastRead = json;
+                return json;
+            }
+
+            JsonObject previous = lastRead;
+            if (previous != null) {
+                Temperaturem.LOGGER.warn("Keeping the previously loaded {}", label);
+            }
+            return previous;
+        }
+
+        private JsonObject readFile() {
+            File configFile = new File(configPath);
+
+            try {
+                JsonObject json;
+
+                if (configFile.exists()) {
+                    try (FileReader reader = new FileReader(configFile)) {
+                        json = JsonParser.parseReader(reader).getAsJsonObject();
+                        Temperaturem.LOGGER.info("Loaded {} from config", label);
+                    }
+                } else {
+                    InputStream defaultStream = TemperatureDefinitions.class.getClassLoader()
+                            .getResourceAsStream(defaultResource);
+                    if (defaultStream == null) {
+                        Temperaturem.LOGGER.error("Default {} not found in mod jar!", defaultResource);
+                        return null;
+                    }
+                    try (InputStreamReader reader = new InputStreamReader(defaultStream)) {
+                        json = JsonParser.parseReader(reader).getAsJsonObject();
+                    }
+
+                    File parentDir = configFile.getParentFile();
+                    if (parentDir != null && !parentDir.exists() && !parentDir.mkdirs()) {
+                        Temperaturem.LOGGER.error("Failed to create config directory: {}", parentDir.getAbsolutePath());
+                    } else {
+                        try (FileWriter writer = new FileWriter(configFile)) {
+                            writer.write(json.toString());
+                            Temperaturem.LOGGER.info("Created default config at {}", configPath);
+                        }
+                    }
+                }
+
+                return json;
+
+            } catch (Exception e) {
+                Temperaturem.LOGGER.error("Failed to load {}", label, e);
+                return null;
+            }
+        }
+    }
+
+    private static class Layer {
+        private final int priority;
+        private final boolean replace;
+        private final List<Rule> rules;
+
+        Layer(int priority, boolean replace, List<Rule> rules) {
+            this.priority = priority;
+            this.replace = replace;
+            this.rules = rules;
+        }
+    }
+
+    /**
+     * One {@code id -> temperature} or {@code #tag -> temperature} entry.
+     */
+    public static final class Rule {
+        private final Identifier id;
+        private final boolean tag;
+        private final int temperature;
+
+        Rule(Identifier id, boolean tag, int temperature) {
+            this.id = id;
+            this.tag = tag;
+            this.temperature = temperature;
+        }
+
+        public Identifier getId() {
+            return id;
+        }
+
+        public boolean isTag() {
+            return tag;
+        }
+
+        public int getTemperature() {
+            return temperature;
+        }
+    }
+}
@@ -1,28 +1,51 @@
 package net.IneiTsuki.temperaturem.data;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import net.IneiTsuki.temperaturem.Temperaturem;
-import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.fabricmc.fabric.api.resource.SimpleResourceReloadListener;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.profiler.Profiler;
 
-import java.io.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-
-public class TemperatureRegistry implements SimpleSynchronousResourceReloadListener {
+import java.util.concurrent.Executor;
+
+/**
+ * Block temperatures. The config file (or bundled default) is the base layer and every
+ * datapack's {@code temperaturem/blocks/*.json} is merged on top, see
+ * {@link TemperatureDefinitions}. Files are read and merged on the background reload
+ * executor; the rules, including block tags, are then compiled into a table indexed by
+ * block raw id and published with a single volatile write. Tags are only bound after
+ * the reload, so the table is compiled again once they are loaded.
+ */
+public class TemperatureRegistry implements SimpleResourceReloadListener<TemperatureDefinitions> {
 
     // Persistent runtime registrations (survive reloads)
     private static final Map<Identifier, Integer> RUNTIME_TEMPS = new ConcurrentHashMap<>();
 
-    // Loaded from config (cleared on reload)
-    private static final Map<Identifier, Integer> BLOCK_TEMPS = new HashMap<>(256);
+    // Merged file and datapack rules, replaced as a whole on reload
+    private static volatile TemperatureDefinitions definitions = TemperatureDefinitions.EMPTY;
+
+    // Compiled lookup table
+    private static volatile BlockTable table = BlockTable.EMPTY;
+
+    private static final TemperatureDefinitions.BaseFile BASE = new TemperatureDefinitions.BaseFile(
+            "config/temperaturem/blocks/temperature_blocks.json",
+            "data/temperaturem/blocks/temperature_blocks.json", "block temperatures");
+
+    // Bumped whenever block temperatures change so derived caches can rebuild
+    private static volatile int generation = 0;
 
-    private static final String CONFIG_PATH = "config/temperaturem/blocks/temperature_blocks.json";
+    // Runtime registrations changed since the last compile, applied on next access
+    private static volatile boolean runtimeDirty = false;
 
     @Override
     public Identifier getFabricId() {
@@ -30,87 +53,106 @@ public class TemperatureRegistry implements SimpleSynchronousResourceReloadListe
     }
 
     @Override
-    public void reload(ResourceManager manager) {
-        BLOCK_TEMPS.clear();
-        File configFile = new File(CONFIG_PATH);
+    public CompletableFuture<TemperatureDefinitions> load(ResourceManager manager, Profiler profiler,
+                                                          Executor executor) {
+        return CompletableFuture.supplyAsync(() -> TemperatureDefinitions.load(
+                manager, BASE.read(), "blocks", TemperatureRegistry::parseTemperature), executor);
+    }
 
-        try {
-            JsonObject json;
+    @Override
+    public CompletableFuture<Void> apply(TemperatureDefinitions data, ResourceManager manager, Profiler profiler,
+                                        Executor executor) {
+        return CompletableFuture.runAsync(() -> {
+            // Tags are not bound yet, onTagsLoaded compiles the new rules once they are
+            definitions = data;
+            Temperaturem.LOGGER.info("Loaded {} block temperature rules ({} runtime)",
+                    data.size(), RUNTIME_TEMPS.size());
+        }, executor);
+    }
 
-            if (configFile.exists()) {
-                try (FileReader reader = new FileReader(configFile)) {
-                    json = JsonParser.parseReader(reader).getAsJsonObject();
-                    Temperaturem.LOGGER.info("Loaded block temperatures from config");
-                }
-            } else {
-                InputStream defaultStream = TemperatureRegistry.class.getClassLoader()
-                        .getResourceAsStream("data/temperaturem/blocks/temperature_blocks.json");
-                if (defaultStream == null) {
-                    Temperaturem.LOGGER.error("Default temperature_blocks.json not found in mod jar!");
-                    return;
-                }
-                try (InputStreamReader reader = new InputStreamReader(defaultStream)) {
-                    json = JsonParser.parseReader(reader).getAsJsonObject();
-                }
+    /**
+     * Recompiles the table against the freshly bound block tags.
+     */
+    public static void onTagsLoaded() {
+        recompile();
+    }
 
-                File parentDir = configFile.getParentFile();
-                if (parentDir != null && !parentDir.exists() && !parentDir.mkdirs()) {
-                    Temperaturem.LOGGER.error("Failed to create config directory: {}", parentDir.getAbsolutePath());
-                    return;
-                }
+    private static int parseTemperature(String value) {
+        int avgTemp = IntRange.parse(value).getAverage();
+        if (avgTemp < -273 || avgTemp > 1000) {
+            throw new IllegalArgumentException("Temperature out of range: " + avgTemp + "°C");
+        }
+        return avgTemp;
+    }
 
-                try (FileWriter writer = new FileWriter(configFile)) {
-                    writer.write(json.toString());
-                    Temperaturem.LOGGER.info("Created default config at " + CONFIG_PATH);
+    // ===== Compilation =====
+
+    /**
+     * Resolves the merged rules and runtime registrations into the raw id table.
+     * Runtime registrations are applied last and win over datapacks.
+     */
+    private static synchronized void recompile() {
+        runtimeDirty = false;
+        int size = Registries.BLOCK.size();
+        int[] temps = new int[size];
+        boolean[] defined = new boolean[size];
+
+        for (TemperatureDefinitions.Rule rule : definitions.getRules()) {
+            if (rule.isTag()) {
+                TagKey<Block> tag = TagKey.of(RegistryKeys.BLOCK, rule.getId());
+                for (RegistryEntry<Block> entry : Registries.BLOCK.iterateEntries(tag)) {
+                    set(temps, defined, Registries.BLOCK.getRawId(entry.value()), rule.getTemperature());
                 }
+            } else {
+                Registries.BLOCK.getOrEmpty(rule.getId()).ifPresent(block ->
+                        set(temps, defined, Registries.BLOCK.getRawId(block), rule.getTemperature()));
             }
+        }
 
-            json.entrySet().forEach(entry -> {
-                try {
-                    IntRange range = IntRange.parse(entry.getValue().getAsString());
-                    int avgTemp = range.getAverage();
-
-                    if (avgTemp < -273 || avgTemp > 1000) {
-                        Temperaturem.LOGGER.warn("Temperature out of range for block '{}': {}°C",
-                                entry.getKey(), avgTemp);
-                        return;
-                    }
-
-                    BLOCK_TEMPS.put(new Identifier(entry.getKey()), avgTemp);
-                } catch (IllegalArgumentException e) {
-                    Temperaturem.LOGGER.error("Invalid temperature entry for block '{}': {}",
-                            entry.getKey(), entry.getValue(), e);
-                } catch (Exception e) {
-                    Temperaturem.LOGGER.error("Failed to parse block entry '{}'", entry.getKey(), e);
-                }
-            });
+        for (Map.Entry<Identifier, Integer> entry : RUNTIME_TEMPS.entrySet()) {
+            Registries.BLOCK.getOrEmpty(entry.getKey()).ifPresent(block ->
+                    set(temps, defined, Registries.BLOCK.getRawId(block), entry.getValue()));
+        }
+
+        table = new BlockTable(temps, defined);
+        generation++;
+    }
 
-            Temperaturem.LOGGER.info("Loaded {} block temperature entries ({} runtime)",
-                    BLOCK_TEMPS.size(), RUNTIME_TEMPS.size());
+    private static void set(int[] temps, boolean[] defined, int rawId, int temperature) {
+        if (rawId < 0 || rawId >= temps.length) return;
+        temps[rawId] = temperature;
+        defined[rawId] = true;
+    }
 
-        } catch (IOException e) {
-            Temperaturem.LOGGER.error("Failed to load block temperatures (IO error)", e);
-        } catch (Exception e) {
-            Temperaturem.LOGGER.error("Failed to load block temperatures", e);
+    /**
+     * Compiles pending runtime registrations, so a batch of registrations costs one
+     * compile instead of one each.
+     */
+    private static void flushRuntime() {
+        if (runtimeDirty) {
+            recompile();
         }
     }
 
+    public static int getGeneration() {
+        flushRuntime();
+        return generation;
+    }
+
     public static int getTemperature(BlockState state) {
         if (state == null) return 0;
-        Identifier id = Registries.BLOCK.getId(state.getBlock());
-
-        // Check runtime first
-        if (RUNTIME_TEMPS.containsKey(id)) {
-            return RUNTIME_TEMPS.get(id);
-        }
-
-        return BLOCK_TEMPS.getOrDefault(id, 0);
+        flushRuntime();
+        BlockTable current = table;
+        int rawId = Registries.BLOCK.getRawId(state.getBlock());
+        return rawId >= 0 && rawId < current.temps.length ? current.temps[rawId] : 0;
     }
 
     public static boolean hasTemperature(BlockState state) {
         if (state == null) return false;
-        Identifier id = Registries.BLOCK.getId(state.getBlock());
-        return RUNTIME_TEMPS.containsKey(id) || BLOCK_TEMPS.containsKey(id);
+        flushRuntime();
+        BlockTable current = table;
+        int rawId = Registries.BLOCK.getRawId(state.getBlock());
+        return rawId >= 0 && rawId < current.defined.length && current.defined[rawId];
     }
 
     public static boolean registerRuntime(Identifier blockId, int temperature) {
@@ -130,6 +172,7 @@ public class TemperatureRegistry implements SimpleSynchronousResourceReloadListe
         }
 
         RUNTIME_TEMPS.put(blockId, temperature);
+        runtimeDirty = true;
         Temperaturem.LOGGER.info("Registered runtime temperature for block '{}': {}°C", blockId, temperature);
         return true;
     }
@@ -137,6 +180,7 @@ public class TemperatureRegistry implements SimpleSynchronousResourceReloadListe
     public static boolean unregisterRuntime(Identifier blockId) {
         boolean removed = RUNTIME_TEMPS.remove(blockId) != null;
         if (removed) {
+            runtimeDirty = true;
             Temperaturem.LOGGER.info("Unregistered runtime temperature for block '{}'", blockId);
         }
         return removed;
@@ -145,10 +189,23 @@ public class TemperatureRegistry implements SimpleSynchronousResourceReloadListe
     public static void clearRuntimeRegistrations() {
         int count = RUNTIME_TEMPS.size();
         RUNTIME_TEMPS.clear();
+        runtimeDirty = true;
         Temperaturem.LOGGER.info("Cleared {} runtime temperature registrations", count);
     }
 
     public static Map<Identifier, Integer> getRuntimeRegistrations() {
         return new HashMap<>(RUNTIME_TEMPS);
     }
+
+    private static final class BlockTable {
+        static final BlockTable EMPTY = new BlockTable(new int[0], new boolean[0]);
+
+        final int[] temps;
+        final boolean[] defined;
+
+        BlockTable(int[] temps, boolean[] defined) {
+            this.temps = temps;
+            this.defined = defined;
+        }
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package net.IneiTsuki.temperaturem.effects;
 
 import net.IneiTsuki.temperaturem.Temperaturem;
+import net.IneiTsuki.temperaturem.profiling.TemperatureProfiler;
+import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -19,12 +21,28 @@ public class TemperatureEffects {
     private static final int VERY_HOT = 55;
     private static final int EXTREME_HOT = 65;
 
+    // Action bar warnings, built once
+    private static final Text WARNING_EXTREME_COLD =
+            Text.literal("You're freezing! Find warmth immediately!").formatted(Formatting.AQUA, Formatting.BOLD);
+    private static final Text WARNING_VERY_COLD =
+            Text.literal("You're very cold. Seek shelter or a heat source.").formatted(Formatting.BLUE);
+    private static final Text WARNING_EXTREME_HOT =
+            Text.literal("Extreme heat! Cool down immediately!").formatted(Formatting.RED, Formatting.BOLD);
+    private static final Text WARNING_VERY_HOT =
+            Text.literal("You're overheating. Find shade or water.").formatted(Formatting.GOLD);
+
     // Effect configuration
     private static boolean enableDamage = true;
     private static boolean enableStatusEffects = true;
     private static boolean enableWarnings = true;
 
     private static int damageInterval = 40; // Ticks between damage (2 seconds)
+    private static final int REFRESH_THRESHOLD = 20; // Re-apply effects with less than this many ticks left
+
+    // Regeneration I heals when its remaining duration is a multiple of 50. Refreshed
+    // between 40 and REFRESH_THRESHOLD it never gets there, so the comfort bonus stays
+    // cosmetic like when it was re-applied at 60 every tick
+    private static final int COMFORT_REGENERATION_DURATION = 40;
     private static float coldDamage = 1.0f;
     private static float hotDamage = 1.0f;
 
@@ -53,53 +71,53 @@ public class TemperatureEffects {
         // Cold effects
         if (temperature <= EXTREME_COLD) {
             // Extreme cold: Slowness III, Mining Fatigue II, Weakness II
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.SLOWNESS, 60, 2, false, false, true));
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.MINING_FATIGUE, 60, 1, false, false, true));
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.WEAKNESS, 60, 1, false, false, true
-            ));
+            applyEffect(player, StatusEffects.SLOWNESS, 60, 2, false);
+            applyEffect(player, StatusEffects.MINING_FATIGUE, 60, 1, false);
+            applyEffect(player, StatusEffects.WEAKNESS, 60, 1, false);
         } else if (temperature <= VERY_COLD) {
             // Very cold: Slowness I, Mining Fatigue I
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.SLOWNESS, 60, 1, false, false, true));
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.MINING_FATIGUE, 60, 0, false, false, true));
+            applyEffect(player, StatusEffects.SLOWNESS, 60, 1, false);
+            applyEffect(player, StatusEffects.MINING_FATIGUE, 60, 0, false);
         } else if (temperature <= COLD) {
             // Cold: Slowness I
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.SLOWNESS, 60, 0, false, false, true));
+            applyEffect(player, StatusEffects.SLOWNESS, 60, 0, false);
         }
 
         // Hot effects
         if (temperature >= EXTREME_HOT) {
             // Extreme heat: Weakness II, Nausea
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.WEAKNESS, 60, 1, false, false, true));
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.NAUSEA, 100, 0, false, false, true));
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.SLOWNESS, 60, 1, false, false, true));
+            applyEffect(player, StatusEffects.WEAKNESS, 60, 1, false);
+            applyEffect(player, StatusEffects.NAUSEA, 100, 0, false);
+            applyEffect(player, StatusEffects.SLOWNESS, 60, 1, false);
         } else if (temperature >= VERY_HOT) {
             // Very hot: Weakness I, Hunger
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.WEAKNESS, 60, 0, false, false, true));
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.HUNGER, 60, 0, false, false, true));
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.SLOWNESS, 60, 0, false, false, true));
+            applyEffect(player, StatusEffects.WEAKNESS, 60, 0, false);
+            applyEffect(player, StatusEffects.HUNGER, 60, 0, false);
+            applyEffect(player, StatusEffects.SLOWNESS, 60, 0, false);
         } else if (temperature >= HOT) {
             // Hot: Hunger
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.HUNGER, 60, 0, false, false, true));
+            applyEffect(player, StatusEffects.HUNGER, 60, 0, false);
         }
 
         // Comfortable range: slight regeneration bonus
         if (temperature >= COMFORTABLE_LOW && temperature <= COMFORTABLE_HIGH) {
-            player.addStatusEffect(new StatusEffectInstance(
-                    StatusEffects.REGENERATION, 60, 0, true, false, true));
+            applyEffect(player, StatusEffects.REGENERATION, COMFORT_REGENERATION_DURATION, 0, true);
+        }
+    }
+
+    /**
+     * Applies an effect unless the player already has it at this amplifier or higher
+     * with time to spare, so steady conditions create a new instance only every
+     * {@code duration - REFRESH_THRESHOLD} ticks instead of every tick.
+     */
+    private static void applyEffect(ServerPlayerEntity player, StatusEffect effect, int duration,
+                                    int amplifier, boolean ambient) {
+        StatusEffectInstance current = player.getStatusEffect(effect);
+        if (current != null && current.getAmplifier() >= amplifier && current.getDuration() > REFRESH_THRESHOLD) {
+            return;
         }
+        player.addStatusEffect(new StatusEffectInstance(effect, duration, amplifier, ambient, false, true));
+        TemperatureProfiler.count(player.getWorld(), TemperatureProfiler.Counter.EFFECT_APPLICATIONS, 1);
     }
 
     private static void applyTemperatureDamage(ServerPlayerEntity player, int temperature) {
@@ -127,16 +145,15 @@ public class TemperatureEffects {
 
     private static void sendTemperatureWarning(ServerPlayerEntity player, int temperature) {
         Text warning = null;
-        Formatting color = Formatting.WHITE;
 
         if (temperature <= EXTREME_COLD) {
-            warning = Text.literal("You're freezing! Find warmth immediately!").formatted(Formatting.AQUA, Formatting.BOLD);
+            warning = WARNING_EXTREME_COLD;
         } else if (temperature <= VERY_COLD) {
-            warning = Text.literal("You're very cold. Seek shelter or a heat source.").formatted(Formatting.BLUE);
+            warning = WARNING_VERY_COLD;
         } else if (temperature >= EXTREME_HOT) {
-            warning = Text.literal("Extreme heat! Cool down immediately!").formatted(Formatting.RED, Formatting.BOLD);
+            warning = WARNING_EXTREME_HOT;
         } else if (temperature >= VERY_HOT) {
-            warning = Text.literal("You're overheating. Find shade or water.").formatted(Formatting.GOLD);
+            warning = WARNING_VERY_HOT;
         }
 
         if (warning != null) {
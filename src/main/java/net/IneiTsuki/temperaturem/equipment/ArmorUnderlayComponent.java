@@ -70,12 +70,28 @@ public class ArmorUnderlayComponent {
         double total = 0.0;
 
         for (ItemStack stack : armorItems) {
-            TemperatureUnderlay underlay = getUnderlay(stack);
-            if (underlay != null && !underlay.isBroken()) {
-                total += underlay.getProtectionValue();
-            }
+            total += getProtection(stack);
         }
 
         return total;
     }
+
+    /**
+     * Reads the protection of a stack's underlay straight from NBT, without creating
+     * a {@link TemperatureUnderlay}. Broken or invalid underlays protect nothing.
+     */
+    public static double getProtection(ItemStack stack) {
+        if (!hasUnderlay(stack)) return 0.0;
+
+        NbtCompound underlayNbt = stack.getNbt().getCompound(NBT_KEY);
+        int durability = underlayNbt.getInt("Durability");
+        if (durability <= 0) return 0.0;
+
+        try {
+            TemperatureUnderlay.UnderlayType type = TemperatureUnderlay.UnderlayType.valueOf(underlayNbt.getString("Type"));
+            return TemperatureUnderlay.getProtectionValue(type, durability);
+        } catch (IllegalArgumentException e) {
+            return 0.0;
+        }
+    }
 }
\ No newline at end of file
@@ -55,7 +55,11 @@ public class TemperatureUnderlay {
     }
 
     public double getProtectionValue() {
-        float condition = getDurabilityPercent();
+        return getProtectionValue(type, durability);
+    }
+
+    public static double getProtectionValue(UnderlayType type, int durability) {
+        float condition = (float) Math.min(durability, type.getMaxDurability()) / type.getMaxDurability();
         // Min 50% effectiveness at low durability, 100% at full
         float effectiveness = 0.5f + (condition * 0.5f);
         return type.getBaseProtection() * effectiveness;
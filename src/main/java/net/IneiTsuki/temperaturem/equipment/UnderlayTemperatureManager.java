@@ -10,11 +10,19 @@ public class UnderlayTemperatureManager {
     private static final int DURABILITY_DAMAGE_INTERVAL = 200; // Damage every 10 seconds
     private static final int BASE_DURABILITY_DAMAGE = 1;
 
+    // EquipmentSlot.values() clones its array on every call
+    private static final EquipmentSlot[] ARMOR_SLOTS = {
+            EquipmentSlot.FEET, EquipmentSlot.LEGS, EquipmentSlot.CHEST, EquipmentSlot.HEAD
+    };
+
     public static double calculateArmorProtection(ServerPlayerEntity player) {
         if (player == null) return 0.0;
 
-        Iterable<ItemStack> armor = player.getArmorItems();
-        return ArmorUnderlayComponent.getTotalProtection(armor);
+        double total = 0.0;
+        for (EquipmentSlot slot : ARMOR_SLOTS) {
+            total += ArmorUnderlayComponent.getProtection(player.getEquippedStack(slot));
+        }
+        return total;
     }
 
     public static void damageUnderlays(ServerPlayerEntity player, int currentTemp, int tickCounter) {
@@ -34,9 +42,7 @@ public class UnderlayTemperatureManager {
         }
 
         // Damage each armor piece with an underlay
-        for (EquipmentSlot slot : EquipmentSlot.values()) {
-            if (slot.getType() != EquipmentSlot.Type.ARMOR) continue;
-
+        for (EquipmentSlot slot : ARMOR_SLOTS) {
             ItemStack stack = player.getEquippedStack(slot);
             if (stack.isEmpty()) continue;
 
@@ -84,9 +90,7 @@ public class UnderlayTemperatureManager {
         double totalProtection = 0.0;
         int underlayCount = 0;
 
-        for (EquipmentSlot slot : EquipmentSlot.values()) {
-            if (slot.getType() != EquipmentSlot.Type.ARMOR) continue;
-
+        for (EquipmentSlot slot : ARMOR_SLOTS) {
             ItemStack stack = player.getEquippedStack(slot);
             TemperatureUnderlay underlay = ArmorUnderlayComponent.getUnderlay(stack);
 
@@ -0,0 +1,98 @@
+package net.IneiTsuki.temperaturem.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.IneiTsuki.temperaturem.config.MetricsConfig;
+import net.minecraft.server.MinecraftServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves {@link PrometheusFormatter} output on {@code /metrics} and/or writes it to a
+ * file periodically, as configured in {@code metrics.json}. Everything runs on one
+ * daemon thread owned by the exporter.
+ */
+public class MetricsExporter {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static HttpServer httpServer;
+    private static ScheduledExecutorService executor;
+
+    public static synchronized void start(MinecraftServer server, MetricsConfig config) {
+        stop();
+        if (!config.enabled || (!config.httpEnabled && !config.fileEnabled)) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Temperaturem Metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (config.httpEnabled) {
+            try {
+                httpServer = HttpServer.create(new InetSocketAddress(config.httpHost, config.httpPort), 0);
+                httpServer.createContext("/metrics", exchange -> {
+                    try {
+                        byte[] body = PrometheusFormatter.format(server).getBytes(StandardCharsets.UTF_8);
+                        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                        exchange.sendResponseHeaders(200, body.length);
+                        try (OutputStream output = exchange.getResponseBody()) {
+                            output.write(body);
+                        }
+                    } finally {
+                        exchange.close();
+                    }
+                });
+                httpServer.setExecutor(executor);
+                httpServer.start();
+                Temperaturem.LOGGER.info("Serving temperature metrics on http://{}:{}/metrics",
+                        config.httpHost, config.httpPort);
+            } catch (IOException e) {
+                Temperaturem.LOGGER.error("Failed to start metrics endpoint on {}:{}",
+                        config.httpHost, config.httpPort, e);
+                httpServer = null;
+            }
+        }
+
+        if (config.fileEnabled) {
+            Path file = Path.of(config.filePath);
+            int interval = Math.max(1, config.fileIntervalSeconds);
+            executor.scheduleAtFixedRate(() -> writeFile(server, file), interval, interval, TimeUnit.SECONDS);
+            Temperaturem.LOGGER.info("Writing temperature metrics to {} every {}s", file.toAbsolutePath(), interval);
+        }
+    }
+
+    public static synchronized void stop() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private static void writeFile(MinecraftServer server, Path file) {
+        try {
+            // Write then move, so readers never see a partial file
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(temp, PrometheusFormatter.format(server), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            Temperaturem.LOGGER.error("Failed to write metrics file {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package net.IneiTsuki.temperaturem.metrics;
+
+import net.IneiTsuki.temperaturem.mobs.MobTemperatureManager;
+import net.IneiTsuki.temperaturem.player.PlayerTemperature;
+import net.IneiTsuki.temperaturem.player.PlayerTemperatureManager;
+import net.IneiTsuki.temperaturem.profiling.TemperatureProfiler;
+import net.IneiTsuki.temperaturem.zones.TemperatureZoneManager;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+
+/**
+ * Renders the mod's counters in the Prometheus text exposition format. Only reads
+ * thread-safe state, so it runs on the exporter thread and the server thread does
+ * no work for a scrape. Counters are totals; use {@code rate()} for per-second values.
+ */
+public class PrometheusFormatter {
+
+    // Player temperature histogram bounds, matching the effect thresholds
+    private static final int[] TEMPERATURE_BUCKETS = {-20, -10, 0, 12, 25, 40, 55, 65};
+
+    public static String format(MinecraftServer server) {
+        StringBuilder out = new StringBuilder(2048);
+
+        counter(out, "temperaturem_evaluations_total", "Player temperature evaluations",
+                TemperatureProfiler.Counter.EVALUATIONS);
+        counter(out, "temperaturem_zone_cache_hits_total", "Zone lookups answered from the position cache",
+                TemperatureProfiler.Counter.ZONE_CACHE_HITS);
+        counter(out, "temperaturem_zone_cache_misses_total", "Zone lookups that scanned the zone list",
+                TemperatureProfiler.Counter.ZONE_CACHE_MISSES);
+        counter(out, "temperaturem_positions_scanned_total", "Block positions scanned for heat sources",
+                TemperatureProfiler.Counter.POSITIONS_SCANNED);
+        counter(out, "temperaturem_sync_packets_total", "Temperature packets sent to clients",
+                TemperatureProfiler.Counter.SYNC_PACKETS);
+        counter(out, "temperaturem_effect_applications_total", "Temperature status effects applied",
+                TemperatureProfiler.Counter.EFFECT_APPLICATIONS);
+        counter(out, "temperaturem_mob_updates_total", "Mob temperature updates",
+                TemperatureProfiler.Counter.MOB_UPDATES);
+
+        long hits = TemperatureProfiler.getTotal(TemperatureProfiler.Counter.ZONE_CACHE_HITS);
+        long misses = TemperatureProfiler.getTotal(TemperatureProfiler.Counter.ZONE_CACHE_MISSES);
+        header(out, "temperaturem_zone_cache_hit_ratio", "Zone cache hit ratio since startup", "gauge");
+        sample(out, "temperaturem_zone_cache_hit_ratio", null, hits + misses > 0 ? hits / (double) (hits + misses) : 0);
+
+        writeZones(out, server);
+        writePlayerTemperatures(out);
+
+        return out.toString();
+    }
+
+    private static void writeZones(StringBuilder out, MinecraftServer server) {
+        header(out, "temperaturem_zones", "Temperature zones per world", "gauge");
+        for (ServerWorld world : server.getWorlds()) {
+            TemperatureZoneManager manager = TemperatureZoneManager.getIfLoaded(world);
+            sample(out, "temperaturem_zones", world, manager != null ? manager.getZoneCount() : 0);
+        }
+
+        header(out, "temperaturem_zones_enabled", "Enabled temperature zones per world", "gauge");
+        for (ServerWorld world : server.getWorlds()) {
+            TemperatureZoneManager manager = TemperatureZoneManager.getIfLoaded(world);
+            sample(out, "temperaturem_zones_enabled", world, manager != null ? manager.getEnabledZoneCount() : 0);
+        }
+
+        header(out, "temperaturem_tracked_mobs", "Mobs with a simulated temperature per world", "gauge");
+        for (ServerWorld world : server.getWorlds()) {
+            MobTemperatureManager mobs = MobTemperatureManager.getIfLoaded(world);
+            sample(out, "temperaturem_tracked_mobs", world, mobs != null ? mobs.getTrackedCount() : 0);
+        }
+    }
+
+    private static void writePlayerTemperatures(StringBuilder out) {
+        long[] buckets = new long[TEMPERATURE_BUCKETS.length];
+        long count = 0;
+        double sum = 0;
+
+        for (PlayerTemperature temperature : PlayerTemperatureManager.getAll()) {
+            double value = temperature.getExact();
+            for (int i = 0; i < TEMPERATURE_BUCKETS.length; i++) {
+                if (value <= TEMPERATURE_BUCKETS[i]) {
+                    buckets[i]++;
+                }
+            }
+            count++;
+            sum += value;
+        }
+
+        header(out, "temperaturem_player_temperature", "Distribution of player body temperatures", "histogram");
+        for (int i = 0; i < TEMPERATURE_BUCKETS.length; i++) {
+            out.append("temperaturem_player_temperature_bucket{le=\"").append(TEMPERATURE_BUCKETS[i]).append("\"} ")
+                    .append(buckets[i]).append('\n');
+        }
+        out.append("temperaturem_player_temperature_bucket{le=\"+Inf\"} ").append(count).append('\n');
+        out.append("temperaturem_player_temperature_sum ").append(sum).append('\n');
+        out.append("temperaturem_player_temperature_count ").append(count).append('\n');
+    }
+
+    // ===== Output Helpers =====
+
+    private static void counter(StringBuilder out, String name, String help, TemperatureProfiler.Counter counter) {
+        header(out, name, help, "counter");
+        out.append(name).append(' ').append(TemperatureProfiler.getTotal(counter)).append('\n');
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, ServerWorld world, double value) {
+        out.append(name);
+        if (world != null) {
+            out.append("{world=\"").append(world.getRegistryKey().getValue()).append("\"}");
+        }
+        out.append(' ').append(value).append('\n');
+    }
+}
@@ -0,0 +1,25 @@
+package net.IneiTsuki.temperaturem.mixin;
+
+import net.IneiTsuki.temperaturem.cache.ChunkTemperatureCache;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(BlockEntity.class)
+public class BlockEntityMixin {
+
+    // Both the instance markDirty() and ticking block entities end up here
+    @Inject(method = "markDirty(Lnet/minecraft/world/World;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;)V",
+            at = @At("HEAD"))
+    private static void onMarkDirty(World world, BlockPos pos, BlockState state, CallbackInfo ci) {
+        if (world instanceof ServerWorld serverWorld) {
+            ChunkTemperatureCache.get(serverWorld).onBlockEntityChanged(pos, state);
+        }
+    }
+}
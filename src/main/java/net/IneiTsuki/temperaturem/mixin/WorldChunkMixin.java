@@ -0,0 +1,36 @@
+package net.IneiTsuki.temperaturem.mixin;
+
+import net.IneiTsuki.temperaturem.cache.ChunkTemperatureCache;
+import net.IneiTsuki.temperaturem.rooms.RoomDetector;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(WorldChunk.class)
+public class WorldChunkMixin {
+
+    @Shadow
+    @Final
+    World world;
+
+    // setBlockState returns the previous state, or null when nothing changed
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void onBlockChanged(BlockPos pos, BlockState state, boolean moved,
+                                CallbackInfoReturnable<BlockState> cir) {
+        BlockState oldState = cir.getReturnValue();
+        if (oldState == null || !(world instanceof ServerWorld serverWorld)) {
+            return;
+        }
+
+        ChunkTemperatureCache.get(serverWorld).onBlockChanged(pos, oldState, state);
+        RoomDetector.get(serverWorld).onBlockChanged(pos);
+    }
+}
@@ -0,0 +1,379 @@
+package net.IneiTsuki.temperaturem.mobs;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.IneiTsuki.temperaturem.api.TemperatureTier;
+import net.IneiTsuki.temperaturem.config.MobTemperatureConfig;
+import net.IneiTsuki.temperaturem.profiling.TemperatureProfiler;
+import net.IneiTsuki.temperaturem.util.TemperatureUtil;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Optional temperatures for mobs of the configured types, per world.
+ * <p>
+ * State is kept in parallel arrays, a few bytes per mob, and updated round-robin: each
+ * tick the next {@code updateBudget} mobs in line are brought towards the ambient
+ * temperature at their position, scaled by the time since their last turn. Mobs
+ * further than {@code fullDetailRange} from every player only update on every
+ * {@code reducedDetailInterval}th turn and mobs beyond {@code simulationRange} not at
+ * all. Mobs sharing a block in the same tick, as in a mob farm, share one evaluation.
+ * <p>
+ * Only zones flagged {@link net.IneiTsuki.temperaturem.zones.TemperatureZone#affectsMobs()}
+ * apply to mobs.
+ */
+public class MobTemperatureManager {
+
+    private static final Map<ServerWorld, MobTemperatureManager> INSTANCES = new ConcurrentHashMap<>();
+
+    private static final double CHANGE_RATE = 0.05; // Degrees per tick
+    private static final int VISITS_PER_UPDATE = 8;  // Bounds the mobs skipped per tick for level of detail
+    private static final int MIN_EFFECT_DURATION = 60;
+    private static final int MAX_EFFECT_DURATION = 600;
+    private static final int REFRESH_THRESHOLD = 20;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Tracked entity types by raw id, recompiled when tags or the config change
+    private static volatile boolean[] trackedTypes = new boolean[0];
+    private static volatile int trackedGeneration = 0;
+
+    private final ServerWorld world;
+    private int generation = -1;
+
+    // Slot of each tracked mob by entity id
+    private final Int2IntOpenHashMap slots = new Int2IntOpenHashMap();
+
+    // Per-mob state, indexed by slot
+    private MobEntity[] mobs = new MobEntity[INITIAL_CAPACITY];
+    private float[] temperatures = new float[INITIAL_CAPACITY]; // NaN until the first update
+    private int[] lastUpdate = new int[INITIAL_CAPACITY];
+    private int[] lastDamage = new int[INITIAL_CAPACITY];
+    private int[] skippedTurns = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    private int cursor = 0;
+
+    // Ambient temperatures evaluated this tick by block position
+    private final Long2DoubleOpenHashMap targets = new Long2DoubleOpenHashMap();
+
+    private MobTemperatureManager(ServerWorld world) {
+        this.world = world;
+        this.slots.defaultReturnValue(-1);
+        this.targets.defaultReturnValue(Double.NaN);
+    }
+
+    public static void init() {
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (Temperaturem.getMobConfig().enabled && entity instanceof MobEntity mob && isTracked(mob.getType())) {
+                get(world).track(mob);
+            }
+        });
+
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            MobTemperatureManager manager = INSTANCES.get(world);
+            if (manager != null) {
+                manager.untrack(entity.getId());
+            }
+        });
+
+        ServerTickEvents.END_WORLD_TICK.register(world -> {
+            // A manager that exists while disabled still ticks once to drop its mobs
+            if (INSTANCES.containsKey(world) || Temperaturem.getMobConfig().enabled) {
+                get(world).tick();
+            }
+        });
+    }
+
+    public static MobTemperatureManager get(ServerWorld world) {
+        return INSTANCES.computeIfAbsent(world, MobTemperatureManager::new);
+    }
+
+    public static MobTemperatureManager getIfLoaded(ServerWorld world) {
+        return INSTANCES.get(world);
+    }
+
+    public static void clearInstances() {
+        INSTANCES.clear();
+    }
+
+    // ===== Tracked Types =====
+
+    /**
+     * Compiles the configured mob ids and tags. Called once tags are bound and whenever
+     * the config changes; every world then rescans its loaded entities.
+     */
+    public static synchronized void compileTrackedTypes() {
+        boolean[] tracked = new boolean[Registries.ENTITY_TYPE.size()];
+
+        for (String entry : Temperaturem.getMobConfig().trackedMobs) {
+            try {
+                if (entry.startsWith("#")) {
+                    TagKey<EntityType<?>> tag = TagKey.of(RegistryKeys.ENTITY_TYPE, new Identifier(entry.substring(1)));
+                    for (RegistryEntry<EntityType<?>> type : Registries.ENTITY_TYPE.iterateEntries(tag)) {
+                        tracked[Registries.ENTITY_TYPE.getRawId(type.value())] = true;
+                    }
+                } else {
+                    Identifier id = new Identifier(entry);
+                    if (Registries.ENTITY_TYPE.containsId(id)) {
+                        tracked[Registries.ENTITY_TYPE.getRawId(Registries.ENTITY_TYPE.get(id))] = true;
+                    } else {
+                        Temperaturem.LOGGER.warn("Unknown tracked mob type '{}'", entry);
+                    }
+                }
+            } catch (Exception e) {
+                Temperaturem.LOGGER.warn("Invalid tracked mob entry '{}': {}", entry, e.getMessage());
+            }
+        }
+
+        trackedTypes = tracked;
+        trackedGeneration++;
+    }
+
+    public static boolean isTracked(EntityType<?> type) {
+        boolean[] tracked = trackedTypes;
+        int rawId = Registries.ENTITY_TYPE.getRawId(type);
+        return rawId >= 0 && rawId < tracked.length && tracked[rawId];
+    }
+
+    // ===== Tracking =====
+
+    private void track(MobEntity mob) {
+        if (slots.get(mob.getId()) >= 0) return;
+
+        if (size == mobs.length) {
+            int capacity = size * 2;
+            mobs = Arrays.copyOf(mobs, capacity);
+            temperatures = Arrays.copyOf(temperatures, capacity);
+            lastUpdate = Arrays.copyOf(lastUpdate, capacity);
+            lastDamage = Arrays.copyOf(lastDamage, capacity);
+            skippedTurns = Arrays.copyOf(skippedTurns, capacity);
+        }
+
+        int slot = size++;
+        mobs[slot] = mob;
+        temperatures[slot] = Float.NaN;
+        lastUpdate[slot] = (int) world.getTime();
+        lastDamage[slot] = lastUpdate[slot];
+        skippedTurns[slot] = 0;
+        slots.put(mob.getId(), slot);
+    }
+
+    private void untrack(int entityId) {
+        int slot = slots.remove(entityId);
+        if (slot >= 0) {
+            removeSlot(slot);
+        }
+    }
+
+    /**
+     * Moves the last mob into the freed slot to keep the arrays dense.
+     */
+    private void removeSlot(int slot) {
+        int last = --size;
+        if (slot != last) {
+            mobs[slot] = mobs[last];
+            temperatures[slot] = temperatures[last];
+            lastUpdate[slot] = lastUpdate[last];
+            lastDamage[slot] = lastDamage[last];
+            skippedTurns[slot] = skippedTurns[last];
+            slots.put(mobs[slot].getId(), slot);
+        }
+        mobs[last] = null;
+    }
+
+    private void clear() {
+        Arrays.fill(mobs, 0, size, null);
+        slots.clear();
+        size = 0;
+        cursor = 0;
+    }
+
+    /**
+     * Matches the tracked set to the current config, after the tracked types changed
+     * or the simulation was switched on or off.
+     */
+    private void rescan(MobTemperatureConfig config) {
+        generation = trackedGeneration;
+        if (!config.enabled) {
+            clear();
+            return;
+        }
+
+        for (int slot = size - 1; slot >= 0; slot--) {
+            if (!isTracked(mobs[slot].getType())) {
+                slots.remove(mobs[slot].getId());
+                removeSlot(slot);
+            }
+        }
+
+        for (Entity entity : world.iterateEntities()) {
+            if (entity instanceof MobEntity mob && !mob.isRemoved() && isTracked(mob.getType())) {
+                track(mob);
+            }
+        }
+    }
+
+    // ===== Update =====
+
+    private void tick() {
+        MobTemperatureConfig config = Temperaturem.getMobConfig();
+        if (generation != trackedGeneration) {
+            rescan(config);
+        }
+        if (size == 0) return;
+
+        long time = TemperatureProfiler.start();
+        List<ServerPlayerEntity> players = world.getPlayers();
+        int now = (int) world.getTime();
+        double fullDetailSq = (double) config.fullDetailRange * config.fullDetailRange;
+        double simulationSq = (double) config.simulationRange * config.simulationRange;
+
+        targets.clear();
+        int updates = 0;
+        int visits = Math.min(size, config.updateBudget * VISITS_PER_UPDATE);
+
+        for (int visit = 0; visit < visits && updates < config.updateBudget && size > 0; visit++) {
+            if (cursor >= size) cursor = 0;
+            int slot = cursor++;
+            MobEntity mob = mobs[slot];
+
+            if (mob.isRemoved()) {
+                slots.remove(mob.getId());
+                removeSlot(slot);
+                cursor--; // The moved mob takes this turn
+                continue;
+            }
+
+            double distanceSq = getNearestPlayerDistanceSq(players, mob);
+            if (distanceSq > simulationSq) continue;
+            if (distanceSq > fullDetailSq && ++skippedTurns[slot] < config.reducedDetailInterval) continue;
+            skippedTurns[slot] = 0;
+
+            update(config, slot, mob, now);
+            updates++;
+        }
+
+        TemperatureProfiler.count(world, TemperatureProfiler.Counter.MOB_UPDATES, updates);
+        TemperatureProfiler.end(world, TemperatureProfiler.Phase.MOB_TICK, time);
+    }
+
+    private static double getNearestPlayerDistanceSq(List<ServerPlayerEntity> players, MobEntity mob) {
+        double nearest = Double.MAX_VALUE;
+        for (int i = 0; i < players.size(); i++) {
+            ServerPlayerEntity player = players.get(i);
+            if (player.isSpectator()) continue;
+            nearest = Math.min(nearest, player.squaredDistanceTo(mob));
+        }
+        return nearest;
+    }
+
+    private void update(MobTemperatureConfig config, int slot, MobEntity mob, int now) {
+        BlockPos pos = mob.getBlockPos();
+        long key = pos.asLong();
+        double target = targets.get(key);
+        if (Double.isNaN(target)) {
+            target = TemperatureUtil.getMobTargetTemperature(world, pos);
+            targets.put(key, target);
+        }
+
+        int elapsed = Math.max(1, now - lastUpdate[slot]);
+        lastUpdate[slot] = now;
+
+        float current = temperatures[slot];
+        if (Float.isNaN(current)) {
+            // First turn, start at the surroundings instead of warming up from zero
+            current = (float) target;
+        } else {
+            double delta = target - current;
+            current += (float) (Math.signum(delta) * Math.min(Math.abs(delta), CHANGE_RATE * elapsed));
+        }
+        temperatures[slot] = current;
+
+        TemperatureTier tier = TemperatureTier.of(Math.round(current));
+        if (config.enableStatusEffects) {
+            // Last until the mob's next turn, estimated from the time since its last one
+            int duration = Math.min(MAX_EFFECT_DURATION, Math.max(MIN_EFFECT_DURATION, elapsed * 2 + REFRESH_THRESHOLD));
+            applyStatusEffects(mob, tier, duration);
+        }
+        if (config.enableDamage && now - lastDamage[slot] >= config.damageInterval) {
+            float damage = getDamage(config, tier);
+            if (damage > 0) {
+                // Freezing for cold tiers, burning for hot ones so fire immune mobs are spared
+                DamageSource source = tier.isCold() ? mob.getDamageSources().freeze() : mob.getDamageSources().onFire();
+                mob.damage(source, damage);
+                lastDamage[slot] = now;
+            }
+        }
+    }
+
+    private void applyStatusEffects(MobEntity mob, TemperatureTier tier, int duration) {
+        switch (tier) {
+            case EXTREME_COLD -> applyEffect(mob, StatusEffects.SLOWNESS, duration, 1);
+            case VERY_COLD -> applyEffect(mob, StatusEffects.SLOWNESS, duration, 0);
+            case VERY_HOT -> applyEffect(mob, StatusEffects.WEAKNESS, duration, 0);
+            case EXTREME_HOT -> {
+                applyEffect(mob, StatusEffects.WEAKNESS, duration, 1);
+                applyEffect(mob, StatusEffects.SLOWNESS, duration, 0);
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void applyEffect(MobEntity mob, StatusEffect effect, int duration, int amplifier) {
+        StatusEffectInstance current = mob.getStatusEffect(effect);
+        if (current != null && current.getAmplifier() >= amplifier && current.getDuration() > duration / 2) {
+            return;
+        }
+        mob.addStatusEffect(new StatusEffectInstance(effect, duration, amplifier, true, false, false));
+        TemperatureProfiler.count(world, TemperatureProfiler.Counter.EFFECT_APPLICATIONS, 1);
+    }
+
+    private static float getDamage(MobTemperatureConfig config, TemperatureTier tier) {
+        return switch (tier) {
+            case EXTREME_COLD -> config.coldDamage * 2.0f;
+            case VERY_COLD -> config.coldDamage;
+            case VERY_HOT -> config.hotDamage;
+            case EXTREME_HOT -> config.hotDamage * 2.0f;
+            default -> 0.0f;
+        };
+    }
+
+    // ===== Queries =====
+
+    /**
+     * Gets a mob's temperature, or null if it is not tracked or has not had its first
+     * update yet.
+     */
+    public Integer getTemperature(MobEntity mob) {
+        int slot = slots.get(mob.getId());
+        if (slot < 0 || mobs[slot] != mob || Float.isNaN(temperatures[slot])) {
+            return null;
+        }
+        return Math.round(temperatures[slot]);
+    }
+
+    public int getTrackedCount() {
+        return size;
+    }
+}
@@ -4,6 +4,12 @@ public class PlayerTemperature {
 
     private double temperature = 0.0;
 
+    // Last value sent to the client, MIN_VALUE forces the next sync
+    private int lastSynced = Integer.MIN_VALUE;
+
+    // Transition tracking for the temperature events, owned by PlayerTemperatureManager
+    int lastNotified = Integer.MIN_VALUE; // MIN_VALUE until the first update
+
     public int get() {
         return (int) Math.round(temperature);
     }
@@ -34,6 +40,18 @@ public class PlayerTemperature {
         }
     }
 
+    public boolean needsSync() {
+        return get() != lastSynced;
+    }
+
+    public void markSynced() {
+        lastSynced = get();
+    }
+
+    public void invalidateSync() {
+        lastSynced = Integer.MIN_VALUE;
+    }
+
     @Deprecated
     public void approachZero() {
         approachZero(1.0);
@@ -1,17 +1,34 @@
 package net.IneiTsuki.temperaturem.player;
 
 import io.netty.buffer.Unpooled;
+import net.IneiTsuki.temperaturem.api.TemperatureTier;
+import net.IneiTsuki.temperaturem.api.event.PlayerTemperatureEvents;
+import net.IneiTsuki.temperaturem.api.event.TemperatureThresholds;
 import net.IneiTsuki.temperaturem.effects.TemperatureEffects;
 import net.IneiTsuki.temperaturem.equipment.UnderlayTemperatureManager;
+import net.IneiTsuki.temperaturem.profiling.HotspotTracker;
+import net.IneiTsuki.temperaturem.profiling.TemperatureProfiler;
+import net.IneiTsuki.temperaturem.profiling.jfr.TemperatureComputationEvent;
+import net.IneiTsuki.temperaturem.profiling.jfr.TemperatureEvents;
+import net.IneiTsuki.temperaturem.profiling.jfr.TemperatureSyncEvent;
+import net.IneiTsuki.temperaturem.util.ScanStats;
 import net.IneiTsuki.temperaturem.util.TemperatureUtil;
+import net.IneiTsuki.temperaturem.zones.TemperatureZoneManager;
+import net.fabricmc.fabric.api.entity.event.v1.ServerEntityWorldChangeEvents;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.packet.Packet;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -19,6 +36,14 @@ public class PlayerTemperatureManager {
 
     private static final ConcurrentHashMap<UUID, PlayerTemperature> TEMPS = new ConcurrentHashMap<>();
 
+    private static final Identifier UPDATE_PACKET = new Identifier("temperaturem", "update_temp");
+
+    // One update packet per temperature in the clamped range, shared by every player the
+    // way vanilla shares broadcast packets. Their buffers are never written or released.
+    private static final int MIN_SYNC_TEMP = -50;
+    private static final int MAX_SYNC_TEMP = 150;
+    private static final Packet<?>[] UPDATE_PACKETS = createUpdatePackets();
+
     private static final double BASE_TEMP_CHANGE_RATE = 0.03;
     private static final int UPDATE_INTERVAL = 2;
     private static final int SYNC_INTERVAL = 3;
@@ -26,12 +51,34 @@ public class PlayerTemperatureManager {
     private static int tickCounter = 0;
     private static final int TICK_WRAP = UPDATE_INTERVAL * SYNC_INTERVAL * 100;
 
+    // Block scan results of the player being evaluated, only used on the server thread
+    private static final ScanStats SCAN = new ScanStats();
+
+    // Temperature sync packets sent since the server started
+    private static long packetsSent = 0;
+
     public static void init() {
         ServerTickEvents.END_SERVER_TICK.register(PlayerTemperatureManager::tick);
 
         ServerWorldEvents.LOAD.register((server, world) -> {
             TEMPS.clear();
         });
+
+        // A reconnecting client starts without a temperature, send the current one again
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) ->
+                get(handler.getPlayer()).invalidateSync());
+
+        // Zone membership is per world, leaving a world leaves its zones
+        ServerEntityWorldChangeEvents.AFTER_PLAYER_CHANGE_WORLD.register((player, origin, destination) ->
+                TemperatureZoneManager.get(origin).leave(player));
+        // Respawning in another dimension (death, leaving the End) does not fire the change event
+        ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) -> {
+            if (oldPlayer.getServerWorld() != newPlayer.getServerWorld()) {
+                TemperatureZoneManager.get(oldPlayer.getServerWorld()).leave(newPlayer);
+            }
+        });
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) ->
+                TemperatureZoneManager.get(handler.getPlayer().getServerWorld()).forget(handler.getPlayer().getUuid()));
     }
 
     private static void tick(MinecraftServer server) {
@@ -51,13 +98,29 @@ public class PlayerTemperatureManager {
 
             if (shouldUpdate) {
                 // Calculate base environmental temperature
+                TemperatureComputationEvent event = null;
+                if (TemperatureEvents.isComputationEnabled()) {
+                    event = new TemperatureComputationEvent();
+                    event.begin();
+                }
+
+                long evaluationStart = System.nanoTime();
                 double targetTemp = TemperatureUtil.getTargetTemperature(
                         player.getWorld(),
-                        player.getBlockPos()
+                        player.getBlockPos(),
+                        SCAN
                 );
+                HotspotTracker.get(player.getServerWorld()).record(player.getBlockX(), player.getBlockZ(),
+                        System.nanoTime() - evaluationStart, SCAN.getSourceCount());
+
+                if (event != null) {
+                    commitComputation(event, player, targetTemp);
+                }
 
                 // Apply armor underlay protection
+                long time = TemperatureProfiler.start();
                 double armorProtection = UnderlayTemperatureManager.calculateArmorProtection(player);
+                TemperatureProfiler.end(player.getWorld(), TemperatureProfiler.Phase.ARMOR, time);
 
                 // Protection works by moving target temperature toward comfortable range
                 // Positive protection counters cold, negative counters heat
@@ -77,17 +140,61 @@ public class PlayerTemperatureManager {
 
                 // Damage underlays based on current temperature conditions
                 UnderlayTemperatureManager.damageUnderlays(player, temp.get(), tickCounter);
+
+                fireTemperatureTransitions(player, temp);
+                TemperatureZoneManager.get(player.getServerWorld()).updateMembership(player);
             }
 
             // Apply temperature effects every tick
+            long time = TemperatureProfiler.start();
             TemperatureEffects.applyEffects(player, temp.get(), tickCounter);
+            time = TemperatureProfiler.lap(player.getWorld(), TemperatureProfiler.Phase.EFFECTS, time);
 
-            if (shouldSync) {
+            // Only send when the displayed value changed
+            if (shouldSync && temp.needsSync()) {
                 sendTemperatureToClient(player, temp.get());
+                temp.markSynced();
+                TemperatureProfiler.count(player.getWorld(), TemperatureProfiler.Counter.SYNC_PACKETS, 1);
+                TemperatureProfiler.end(player.getWorld(), TemperatureProfiler.Phase.SYNC, time);
             }
         }
     }
 
+    // ===== Transition Events =====
+
+    private static void fireTemperatureTransitions(ServerPlayerEntity player, PlayerTemperature temp) {
+        int current = temp.get();
+        int previous = temp.lastNotified;
+        if (current == previous) return;
+        temp.lastNotified = current;
+
+        // The first update only establishes the starting point
+        if (previous == Integer.MIN_VALUE) return;
+
+        TemperatureTier oldTier = TemperatureTier.of(previous);
+        TemperatureTier newTier = TemperatureTier.of(current);
+        if (oldTier != newTier) {
+            PlayerTemperatureEvents.TIER_CHANGED.invoker().onTierChanged(player, oldTier, newTier);
+        }
+
+        TemperatureThresholds.fireCrossings(player, previous, current);
+    }
+
+    private static void commitComputation(TemperatureComputationEvent event, ServerPlayerEntity player,
+                                          double targetTemp) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.player = player.getEntityName();
+            event.world = player.getWorld().getRegistryKey().getValue().toString();
+            event.x = player.getBlockX();
+            event.y = player.getBlockY();
+            event.z = player.getBlockZ();
+            event.temperature = targetTemp;
+            event.sourcesScanned = SCAN.getSourceCount();
+            event.commit();
+        }
+    }
+
     private static double calculateChangeRate(double distance) {
         double changeRate = BASE_TEMP_CHANGE_RATE;
 
@@ -108,15 +215,56 @@ public class PlayerTemperatureManager {
     }
 
     public static void sendTemperatureToClient(ServerPlayerEntity player, int temp) {
-        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
-        buf.writeInt(temp);
-        ServerPlayNetworking.send(player, new Identifier("temperaturem", "update_temp"), buf);
+        TemperatureSyncEvent event = null;
+        if (TemperatureEvents.isSyncEnabled()) {
+            event = new TemperatureSyncEvent();
+            event.begin();
+        }
+
+        if (temp >= MIN_SYNC_TEMP && temp <= MAX_SYNC_TEMP) {
+            player.networkHandler.sendPacket(UPDATE_PACKETS[temp - MIN_SYNC_TEMP]);
+        } else {
+            PacketByteBuf buf = PacketByteBufs.create();
+            buf.writeInt(temp);
+            ServerPlayNetworking.send(player, UPDATE_PACKET, buf);
+        }
+        packetsSent++;
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.player = player.getEntityName();
+                event.world = player.getWorld().getRegistryKey().getValue().toString();
+                event.temperature = temp;
+                event.commit();
+            }
+        }
+    }
+
+    private static Packet<?>[] createUpdatePackets() {
+        Packet<?>[] packets = new Packet<?>[MAX_SYNC_TEMP - MIN_SYNC_TEMP + 1];
+        for (int i = 0; i < packets.length; i++) {
+            PacketByteBuf buf = new PacketByteBuf(Unpooled.unreleasableBuffer(Unpooled.copyInt(MIN_SYNC_TEMP + i)));
+            packets[i] = ServerPlayNetworking.createS2CPacket(UPDATE_PACKET, buf);
+        }
+        return packets;
+    }
+
+    public static long getPacketsSent() {
+        return packetsSent;
     }
 
     public static PlayerTemperature get(ServerPlayerEntity player) {
         return TEMPS.computeIfAbsent(player.getUuid(), id -> new PlayerTemperature());
     }
 
+    /**
+     * Gets a live view of all tracked player temperatures, safe to read from any thread.
+     */
+    public static Collection<PlayerTemperature> getAll() {
+        return Collections.unmodifiableCollection(TEMPS.values());
+    }
+
     public static void remove(UUID playerId) {
         TEMPS.remove(playerId);
     }
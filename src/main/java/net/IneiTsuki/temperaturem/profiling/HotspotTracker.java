@@ -0,0 +1,171 @@
+package net.IneiTsuki.temperaturem.profiling;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accumulates the cost of player temperature evaluations per chunk over a sliding
+ * window, to find the builds that drive the mod's tick time. The window is a ring of
+ * one-second buckets; chunks with no evaluations left in the window are dropped.
+ * <p>
+ * Server thread only.
+ */
+public class HotspotTracker {
+
+    private static final Map<ServerWorld, HotspotTracker> INSTANCES = new ConcurrentHashMap<>();
+
+    private static final int BUCKET_TICKS = 20;
+    private static final int BUCKETS = 60; // One minute window
+
+    private final Long2ObjectOpenHashMap<ChunkCost> chunks = new Long2ObjectOpenHashMap<>();
+    private int bucket = 0;
+    private int tickCounter = 0;
+
+    // ===== Static Access =====
+
+    public static HotspotTracker get(ServerWorld world) {
+        return INSTANCES.computeIfAbsent(world, w -> new HotspotTracker());
+    }
+
+    public static void clearInstances() {
+        INSTANCES.clear();
+    }
+
+    public static int getWindowSeconds() {
+        return BUCKETS * BUCKET_TICKS / 20;
+    }
+
+    // ===== Recording =====
+
+    /**
+     * Records one evaluation at a block position.
+     *
+     * @param nanos   time the evaluation took
+     * @param sources heat sources found by its block scan
+     */
+    public void record(int blockX, int blockZ, long nanos, int sources) {
+        long key = ChunkPos.toLong(blockX >> 4, blockZ >> 4);
+        ChunkCost cost = chunks.get(key);
+        if (cost == null) {
+            cost = new ChunkCost();
+            chunks.put(key, cost);
+        }
+        cost.add(bucket, nanos, sources);
+    }
+
+    /**
+     * Advances the window once per second, dropping the oldest bucket.
+     */
+    public void tick() {
+        if (++tickCounter < BUCKET_TICKS) return;
+        tickCounter = 0;
+        bucket = (bucket + 1) % BUCKETS;
+
+        if (chunks.isEmpty()) return;
+        ObjectIterator<ChunkCost> iterator = chunks.values().iterator();
+        while (iterator.hasNext()) {
+            ChunkCost cost = iterator.next();
+            cost.clear(bucket);
+            if (cost.evaluations == 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    // ===== Queries =====
+
+    /**
+     * Gets the chunks with the highest total evaluation time in the window, most
+     * expensive first.
+     */
+    public List<Hotspot> getHotspots(int limit) {
+        List<Hotspot> result = new ArrayList<>(chunks.size());
+        for (Long2ObjectMap.Entry<ChunkCost> entry : chunks.long2ObjectEntrySet()) {
+            ChunkCost cost = entry.getValue();
+            result.add(new Hotspot(new ChunkPos(entry.getLongKey()), cost.nanos, cost.evaluations, cost.sources));
+        }
+
+        result.sort(Comparator.comparingLong(Hotspot::getTotalNanos).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    public int getTrackedChunkCount() {
+        return chunks.size();
+    }
+
+    // ===== Window Data =====
+
+    private static class ChunkCost {
+        private final long[] bucketNanos = new long[BUCKETS];
+        private final int[] bucketEvaluations = new int[BUCKETS];
+        private final long[] bucketSources = new long[BUCKETS];
+
+        // Totals over the whole window
+        private long nanos;
+        private int evaluations;
+        private long sources;
+
+        void add(int bucket, long nanos, int sources) {
+            bucketNanos[bucket] += nanos;
+            bucketEvaluations[bucket]++;
+            bucketSources[bucket] += sources;
+
+            this.nanos += nanos;
+            this.evaluations++;
+            this.sources += sources;
+        }
+
+        void clear(int bucket) {
+            nanos -= bucketNanos[bucket];
+            evaluations -= bucketEvaluations[bucket];
+            sources -= bucketSources[bucket];
+
+            bucketNanos[bucket] = 0;
+            bucketEvaluations[bucket] = 0;
+            bucketSources[bucket] = 0;
+        }
+    }
+
+    public static class Hotspot {
+        private final ChunkPos pos;
+        private final long totalNanos;
+        private final int evaluations;
+        private final long sources;
+
+        Hotspot(ChunkPos pos, long totalNanos, int evaluations, long sources) {
+            this.pos = pos;
+            this.totalNanos = totalNanos;
+            this.evaluations = evaluations;
+            this.sources = sources;
+        }
+
+        public ChunkPos getPos() {
+            return pos;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public int getEvaluations() {
+            return evaluations;
+        }
+
+        public double getMeanNanos() {
+            return evaluations > 0 ? totalNanos / (double) evaluations : 0;
+        }
+
+        public double getMeanSources() {
+            return evaluations > 0 ? sources / (double) evaluations : 0;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package net.IneiTsuki.temperaturem.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Log-linear latency histogram in the style of HdrHistogram: values below 16 ns get
+ * a bucket each, and every power of two above is split into 8 linear buckets. That
+ * keeps percentiles within 12.5% from one nanosecond up to about a minute in a fixed
+ * 280-slot array. Recording never allocates.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAGNITUDES = 37; // Up to 2^36 ns, about 68 seconds
+    private static final long MAX_TRACKABLE = (1L << MAGNITUDES) - 1;
+
+    private final long[] counts = new long[SUB_BUCKETS + (MAGNITUDES - SUB_BUCKET_BITS) * (SUB_BUCKETS / 2)];
+    private long totalCount = 0;
+    private long max = 0;
+    private long sum = 0;
+
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(MAX_TRACKABLE, nanos));
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        sum += value;
+        if (value > max) max = value;
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        // Magnitude of the highest set bit above the linear range
+        int magnitude = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (value >>> magnitude) - SUB_BUCKETS / 2;
+        return SUB_BUCKETS + (magnitude - 1) * (SUB_BUCKETS / 2) + subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int magnitude = (index - SUB_BUCKETS) / (SUB_BUCKETS / 2) + 1;
+        int subBucket = (index - SUB_BUCKETS) % (SUB_BUCKETS / 2) + SUB_BUCKETS / 2;
+        return ((long) (subBucket + 1) << magnitude) - 1;
+    }
+
+    /**
+     * Gets the value at a percentile (0-100), reported as the upper bound of its bucket.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(max, bucketUpperBound(i));
+            }
+        }
+        return max;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return totalCount > 0 ? sum / (double) totalCount : 0;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        max = 0;
+        sum = 0;
+    }
+}
@@ -0,0 +1,180 @@
+package net.IneiTsuki.temperaturem.profiling;
+
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.World;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Opt-in timers for the phases of a temperature evaluation and for each contribution
+ * pipeline stage, recorded per world into latency histograms. While stopped every
+ * timer call is a single volatile read, so the hooks can stay in the hot path.
+ * Counters are also kept as server-wide totals that are always on, for the metrics
+ * exporter.
+ * <p>
+ * Usage: {@code long t = start(); ...; t = lap(world, Phase.X, t); ...; end(world, Phase.Y, t);}
+ */
+public class TemperatureProfiler {
+
+    public enum Phase {
+        ZONE_LOOKUP,
+        SEASON,
+        ARMOR,
+        EFFECTS,
+        SYNC,
+        ZONE_TICK,
+        SEASON_TICK,
+        ROOM_TICK,
+        MOB_TICK
+    }
+
+    public enum Counter {
+        EVALUATIONS,
+        ZONE_CACHE_HITS,
+        ZONE_CACHE_MISSES,
+        POSITIONS_SCANNED,
+        SYNC_PACKETS,
+        EFFECT_APPLICATIONS,
+        MOB_UPDATES
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final Counter[] COUNTERS = Counter.values();
+
+    private static final Map<RegistryKey<World>, WorldProfile> PROFILES = new ConcurrentHashMap<>();
+    private static final AtomicLongArray TOTALS = new AtomicLongArray(COUNTERS.length);
+    private static volatile boolean running = false;
+    private static long startedAt = 0;
+    private static long stoppedAt = 0;
+
+    // ===== Control =====
+
+    /**
+     * Starts a new profile, discarding any previous results.
+     */
+    public static void begin() {
+        PROFILES.clear();
+        startedAt = System.currentTimeMillis();
+        stoppedAt = 0;
+        running = true;
+    }
+
+    public static void stop() {
+        if (!running) return;
+        running = false;
+        stoppedAt = System.currentTimeMillis();
+    }
+
+    public static boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets how long the current or last profile ran, in milliseconds.
+     */
+    public static long getDurationMillis() {
+        if (startedAt == 0) return 0;
+        return (running ? System.currentTimeMillis() : stoppedAt) - startedAt;
+    }
+
+    // ===== Recording =====
+
+    /**
+     * @return A start timestamp, or 0 when not profiling
+     */
+    public static long start() {
+        return running ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a phase that began at {@code start} and returns the start of the next one.
+     */
+    public static long lap(World world, Phase phase, long start) {
+        if (start == 0L || world == null) return start();
+        long now = System.nanoTime();
+        profile(world).record(phase, now - start);
+        return now;
+    }
+
+    public static void end(World world, Phase phase, long start) {
+        if (start == 0L || world == null) return;
+        profile(world).record(phase, System.nanoTime() - start);
+    }
+
+    /**
+     * Records a contribution pipeline stage that began at {@code start}.
+     */
+    public static void endStage(World world, Identifier stage, long start) {
+        if (start == 0L || world == null) return;
+        profile(world).recordStage(stage, System.nanoTime() - start);
+    }
+
+    public static void count(World world, Counter counter, long amount) {
+        TOTALS.getAndAdd(counter.ordinal(), amount);
+        if (!running || world == null) return;
+        profile(world).counters[counter.ordinal()] += amount;
+    }
+
+    private static WorldProfile profile(World world) {
+        return PROFILES.computeIfAbsent(world.getRegistryKey(), key -> new WorldProfile());
+    }
+
+    // ===== Results =====
+
+    /**
+     * Gets a counter summed over all worlds since the server started, whether or not
+     * profiling was running. Safe to read from any thread.
+     */
+    public static long getTotal(Counter counter) {
+        return TOTALS.get(counter.ordinal());
+    }
+
+    public static Map<RegistryKey<World>, WorldProfile> getProfiles() {
+        return Collections.unmodifiableMap(PROFILES);
+    }
+
+    public static class WorldProfile {
+        private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+        private final long[] counters = new long[COUNTERS.length];
+        private final Map<Identifier, LatencyHistogram> stages = new LinkedHashMap<>();
+
+        private WorldProfile() {
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+        }
+
+        private void record(Phase phase, long nanos) {
+            histograms[phase.ordinal()].record(nanos);
+        }
+
+        private void recordStage(Identifier stage, long nanos) {
+            LatencyHistogram histogram = stages.get(stage);
+            if (histogram == null) {
+                histogram = new LatencyHistogram();
+                stages.put(stage, histogram);
+            }
+            histogram.record(nanos);
+        }
+
+        /**
+         * Gets the latency of each pipeline stage, in first evaluation order.
+         */
+        public Map<Identifier, LatencyHistogram> getStageHistograms() {
+            return Collections.unmodifiableMap(stages);
+        }
+
+        public LatencyHistogram getHistogram(Phase phase) {
+            return histograms[phase.ordinal()];
+        }
+
+        public long getCounter(Counter counter) {
+            return counters[counter.ordinal()];
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package net.IneiTsuki.temperaturem.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("temperaturem.TemperatureComputation")
+@Label("Temperature Computation")
+@Description("Target temperature evaluation for a player")
+@Category({"Temperaturem"})
+@Enabled(false)
+@StackTrace(false)
+public class TemperatureComputationEvent extends Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("World")
+    public String world;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Z")
+    public int z;
+
+    @Label("Target Temperature")
+    public double temperature;
+
+    @Label("Sources Scanned")
+    @Description("Heat emitting blocks found in the scan window")
+    public int sourcesScanned;
+}
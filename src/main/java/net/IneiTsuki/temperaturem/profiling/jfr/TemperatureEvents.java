@@ -0,0 +1,55 @@
+package net.IneiTsuki.temperaturem.profiling.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import net.IneiTsuki.temperaturem.Temperaturem;
+
+/**
+ * Gates the mod's JFR events. All events are disabled by default; enable them in a
+ * recording with e.g. {@code -XX:StartFlightRecording:temperaturem.ZoneLookup#enabled=true}
+ * or through a custom .jfc file.
+ * <p>
+ * The flags are refreshed whenever a recording starts or stops, so call sites only
+ * read a static boolean and never create an event object while nothing is listening.
+ */
+public class TemperatureEvents {
+
+    private static volatile boolean computationEnabled = false;
+    private static volatile boolean zoneLookupEnabled = false;
+    private static volatile boolean syncEnabled = false;
+
+    public static void init() {
+        if (!FlightRecorder.isAvailable()) {
+            Temperaturem.LOGGER.debug("Flight Recorder not available, temperature JFR events disabled");
+            return;
+        }
+
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                refresh();
+            }
+        });
+        refresh();
+    }
+
+    private static void refresh() {
+        computationEnabled = EventType.getEventType(TemperatureComputationEvent.class).isEnabled();
+        zoneLookupEnabled = EventType.getEventType(ZoneLookupEvent.class).isEnabled();
+        syncEnabled = EventType.getEventType(TemperatureSyncEvent.class).isEnabled();
+    }
+
+    public static boolean isComputationEnabled() {
+        return computationEnabled;
+    }
+
+    public static boolean isZoneLookupEnabled() {
+        return zoneLookupEnabled;
+    }
+
+    public static boolean isSyncEnabled() {
+        return syncEnabled;
+    }
+}
@@ -0,0 +1,27 @@
+package net.IneiTsuki.temperaturem.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("temperaturem.TemperatureSync")
+@Label("Temperature Sync")
+@Description("Temperature update packet sent to a client")
+@Category({"Temperaturem"})
+@Enabled(false)
+@StackTrace(false)
+public class TemperatureSyncEvent extends Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("World")
+    public String world;
+
+    @Label("Temperature")
+    public int temperature;
+}
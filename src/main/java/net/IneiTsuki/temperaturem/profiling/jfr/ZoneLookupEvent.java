@@ -0,0 +1,37 @@
+package net.IneiTsuki.temperaturem.profiling.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("temperaturem.ZoneLookup")
+@Label("Zone Lookup")
+@Description("Lookup of the temperature zones containing a position")
+@Category({"Temperaturem"})
+@Enabled(false)
+@StackTrace(false)
+public class ZoneLookupEvent extends Event {
+
+    @Label("World")
+    public String world;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Z")
+    public int z;
+
+    @Label("Zone Count")
+    @Description("Enabled zones containing the position")
+    public int zoneCount;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+}
@@ -0,0 +1,79 @@
+package net.IneiTsuki.temperaturem.rooms;
+
+import net.minecraft.util.math.BlockBox;
+
+/**
+ * Result of a room flood fill. Sealed rooms are enclosed air volumes under the
+ * volume cap; unsealed results are cached too so that open areas such as caves
+ * are not flood filled again on every evaluation, unless they are partial.
+ */
+public class Room {
+
+    private final long[] members;
+    private final BlockBox bounds;
+    private final boolean sealed;
+    private final boolean partial; // The fill reached an unloaded chunk
+    private final double heatOutput;
+    private final int heatSourceCount;
+    private long lastAccessTick;
+
+    Room(long[] members, BlockBox bounds, boolean sealed, boolean partial, double heatOutput, int heatSourceCount,
+         long tick) {
+        this.members = members;
+        this.bounds = bounds;
+        this.sealed = sealed;
+        this.partial = partial;
+        this.heatOutput = heatOutput;
+        this.heatSourceCount = heatSourceCount;
+        this.lastAccessTick = tick;
+    }
+
+    public boolean isSealed() {
+        return sealed;
+    }
+
+    /**
+     * Whether the fill stopped at an unloaded chunk, so the room may turn out sealed
+     * once that chunk loads.
+     */
+    public boolean isPartial() {
+        return partial;
+    }
+
+    public int getVolume() {
+        return members.length;
+    }
+
+    public BlockBox getBounds() {
+        return bounds;
+    }
+
+    /**
+     * Sum of the temperatures of all heat and cold sources inside the room or in its walls.
+     */
+    public double getHeatOutput() {
+        return heatOutput;
+    }
+
+    public int getHeatSourceCount() {
+        return heatSourceCount;
+    }
+
+    long[] getMembers() {
+        return members;
+    }
+
+    long getLastAccessTick() {
+        return lastAccessTick;
+    }
+
+    void touch(long tick) {
+        this.lastAccessTick = tick;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Room[%s, volume=%d, heat=%.1f from %d sources]",
+                sealed ? "sealed" : "open", members.length, heatOutput, heatSourceCount);
+    }
+}
@@ -0,0 +1,256 @@
+package net.IneiTsuki.temperaturem.rooms;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.IneiTsuki.temperaturem.data.TemperatureRegistry;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.Heightmap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detects enclosed rooms by flood filling the air around a position and caches
+ * the result for every member block, so repeated queries from inside a known
+ * room are a single map lookup. Block changes inside a room or in its walls
+ * invalidate it. When the cache is full the least recently used room makes way.
+ * Fills that reach an unloaded chunk are not cached, since loading the chunk may
+ * close the room.
+ */
+public class RoomDetector {
+
+    private static final Map<ServerWorld, RoomDetector> INSTANCES = new ConcurrentHashMap<>();
+
+    private static final int MAX_ROOM_VOLUME = 2048; // Larger spaces count as open
+    private static final int MAX_CACHED_ROOMS = 512;
+    private static final int EXPIRY_TICKS = 1200; // Drop rooms unused for a minute
+    private static final int SWEEP_INTERVAL = 100;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final ServerWorld world;
+
+    // Every member position of every cached room, for O(1) lookups and invalidation
+    private final Long2ObjectOpenHashMap<Room> memberIndex = new Long2ObjectOpenHashMap<>();
+    private final Set<Room> rooms = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int sweepCounter = 0;
+
+    private RoomDetector(ServerWorld world) {
+        this.world = world;
+    }
+
+    // ===== Static Access =====
+
+    public static RoomDetector get(ServerWorld world) {
+        return INSTANCES.computeIfAbsent(world, RoomDetector::new);
+    }
+
+    public static void clearInstances() {
+        INSTANCES.clear();
+    }
+
+    // ===== Queries =====
+
+    /**
+     * Gets the room containing a position, flood filling it on a cache miss.
+     *
+     * @return The room, or null if the position is under open sky
+     */
+    public Room getRoom(BlockPos pos) {
+        Room room = memberIndex.get(pos.asLong());
+        if (room != null) {
+            room.touch(world.getTime());
+            return room;
+        }
+
+        // Anything that sees the sky is not inside a room, no need to fill
+        if (isOpenToSky(pos.getX(), pos.getY(), pos.getZ())) {
+            return null;
+        }
+
+        room = floodFill(pos);
+        if (room.isPartial()) {
+            return room;
+        }
+
+        if (rooms.size() >= MAX_CACHED_ROOMS) {
+            remove(getLeastRecentlyUsed());
+        }
+        rooms.add(room);
+        for (long member : room.getMembers()) {
+            memberIndex.put(member, room);
+        }
+        return room;
+    }
+
+    private Room getLeastRecentlyUsed() {
+        Room oldest = null;
+        for (Room room : rooms) {
+            if (oldest == null || room.getLastAccessTick() < oldest.getLastAccessTick()) {
+                oldest = room;
+            }
+        }
+        return oldest;
+    }
+
+    private Room floodFill(BlockPos start) {
+        LongOpenHashSet visited = new LongOpenHashSet();
+        LongOpenHashSet walls = new LongOpenHashSet();
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+
+        long startKey = start.asLong();
+        visited.add(startKey);
+        queue.enqueue(startKey);
+
+        boolean sealed = true;
+        boolean partial = false;
+        double heatOutput = 0;
+        int heatSources = 0;
+        int minX = start.getX(), minY = start.getY(), minZ = start.getZ();
+        int maxX = minX, maxY = minY, maxZ = minZ;
+
+        while (!queue.isEmpty()) {
+            long key = queue.dequeueLong();
+            int x = BlockPos.unpackLongX(key);
+            int y = BlockPos.unpackLongY(key);
+            int z = BlockPos.unpackLongZ(key);
+
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            maxZ = Math.max(maxZ, z);
+
+            // Air sources such as torches, fire and lava inside the room
+            int temp = TemperatureRegistry.getTemperature(world.getBlockState(mutable.set(x, y, z)));
+            if (temp != 0) {
+                heatOutput += temp;
+                heatSources++;
+            }
+
+            if (isOpenToSky(x, y, z)) {
+                sealed = false;
+                break;
+            }
+
+            for (Direction direction : DIRECTIONS) {
+                int nx = x + direction.getOffsetX();
+                int ny = y + direction.getOffsetY();
+                int nz = z + direction.getOffsetZ();
+                long neighborKey = BlockPos.asLong(nx, ny, nz);
+
+                if (visited.contains(neighborKey) || walls.contains(neighborKey)) {
+                    continue;
+                }
+
+                if (world.isOutOfHeightLimit(ny)) {
+                    sealed = false;
+                    break;
+                }
+                if (!world.isChunkLoaded(nx >> 4, nz >> 4)) {
+                    // Treated as open for now, but not final
+                    sealed = false;
+                    partial = true;
+                    break;
+                }
+
+                mutable.set(nx, ny, nz);
+                BlockState state = world.getBlockState(mutable);
+                if (isWall(state, mutable)) {
+                    walls.add(neighborKey);
+                    int wallTemp = TemperatureRegistry.getTemperature(state);
+                    if (wallTemp != 0) {
+                        heatOutput += wallTemp;
+                        heatSources++;
+                    }
+                } else {
+                    visited.add(neighborKey);
+                    queue.enqueue(neighborKey);
+                }
+            }
+
+            if (!sealed || visited.size() > MAX_ROOM_VOLUME) {
+                sealed = false;
+                break;
+            }
+        }
+
+        BlockBox bounds = new BlockBox(minX, minY, minZ, maxX, maxY, maxZ);
+        return new Room(visited.toLongArray(), bounds, sealed, partial, heatOutput, heatSources, world.getTime());
+    }
+
+    private boolean isWall(BlockState state, BlockPos pos) {
+        return !state.getCollisionShape(world, pos).isEmpty();
+    }
+
+    private boolean isOpenToSky(int x, int y, int z) {
+        return world.getDimension().hasSkyLight()
+                && y >= world.getTopY(Heightmap.Type.MOTION_BLOCKING, x, z);
+    }
+
+    // ===== Invalidation =====
+
+    /**
+     * Invalidates any room that contains the changed position or has it in its walls.
+     */
+    public void onBlockChanged(BlockPos pos) {
+        if (memberIndex.isEmpty()) return;
+
+        invalidateAt(pos.asLong());
+        for (Direction direction : DIRECTIONS) {
+            invalidateAt(BlockPos.offset(pos.asLong(), direction));
+        }
+    }
+
+    private void invalidateAt(long key) {
+        Room room = memberIndex.get(key);
+        if (room != null) {
+            remove(room);
+        }
+    }
+
+    private void remove(Room room) {
+        rooms.remove(room);
+        for (long member : room.getMembers()) {
+            memberIndex.remove(member, room);
+        }
+    }
+
+    public void tick() {
+        sweepCounter++;
+        if (sweepCounter < SWEEP_INTERVAL) return;
+        sweepCounter = 0;
+
+        long now = world.getTime();
+        List<Room> expired = new ArrayList<>();
+        for (Room room : rooms) {
+            if (now - room.getLastAccessTick() > EXPIRY_TICKS) {
+                expired.add(room);
+            }
+        }
+        expired.forEach(this::remove);
+    }
+
+    public void clear() {
+        rooms.clear();
+        memberIndex.clear();
+    }
+
+    // ===== Statistics =====
+
+    public int getCachedRoomCount() {
+        return rooms.size();
+    }
+}
@@ -12,6 +12,9 @@ public enum Season {
     AUTUMN("Autumn", 2, Formatting.DARK_RED, -4.0, 0.9, "Cooling temperatures and falling leaves"),
     WINTER("Winter", 3, Formatting.AQUA, -16.0, 0.6, "Cold temperatures and possible snow");
 
+    // values() clones its array on every call
+    private static final Season[] VALUES = values();
+
     private final String displayName;
     private final int id;
     private final Formatting color;
@@ -54,16 +57,15 @@ public enum Season {
     }
 
     public Season next() {
-        return values()[(this.ordinal() + 1) % values().length];
+        return VALUES[(this.ordinal() + 1) % VALUES.length];
     }
 
     public Season previous() {
-        return values()[(this.ordinal() - 1 + values().length) % values().length];
+        return VALUES[(this.ordinal() - 1 + VALUES.length) % VALUES.length];
     }
 
     public static Season fromId(int id) {
-        Season[] values = values();
-        return (id >= 0 && id < values.length) ? values[id] : SPRING;
+        return (id >= 0 && id < VALUES.length) ? VALUES[id] : SPRING;
     }
 
     public Text toText() {
@@ -36,9 +36,10 @@ public class SeasonConfig {
         File file = new File(CONFIG_PATH);
 
         if (file.exists()) {
-            try (FileReader reader = new FileReader(file)) {
+            try {
+                SeasonConfig config = read();
                 Temperaturem.LOGGER.info("Loaded season config");
-                return GSON.fromJson(reader, SeasonConfig.class);
+                return config;
             } catch (Exception e) {
                 Temperaturem.LOGGER.error("Failed to load season config, using defaults", e);
             }
@@ -50,6 +51,28 @@ public class SeasonConfig {
         return config;
     }
 
+    /**
+     * Reads and validates the config file.
+     *
+     * @throws Exception if the file cannot be read or holds invalid values
+     */
+    public static SeasonConfig read() throws Exception {
+        try (FileReader reader = new FileReader(CONFIG_PATH)) {
+            SeasonConfig config = GSON.fromJson(reader, SeasonConfig.class);
+            if (config == null) {
+                throw new IOException("Config file is empty");
+            }
+            if (config.seasonLengthDays < 1) {
+                throw new IllegalArgumentException("seasonLengthDays must be at least 1, got " + config.seasonLengthDays);
+            }
+            if (config.springTempMultiplier < 0 || config.summerTempMultiplier < 0
+                    || config.autumnTempMultiplier < 0 || config.winterTempMultiplier < 0) {
+                throw new IllegalArgumentException("Season temperature multipliers must not be negative");
+            }
+            return config;
+        }
+    }
+
     public void save() {
         File file = new File(CONFIG_PATH);
         File parent = file.getParentFile();
@@ -49,6 +49,16 @@ public class SeasonManager extends PersistentState {
     }
 
     // ===== Configuration =====
+
+    /**
+     * Applies the current season config to every loaded world.
+     */
+    public static void reloadConfig() {
+        for (SeasonManager manager : INSTANCES.values()) {
+            manager.applyConfig();
+        }
+    }
+
     private void applyConfig() {
         SeasonConfig config = Temperaturem.getSeasonConfig();
         if (config == null) return;
@@ -0,0 +1,340 @@
+package net.IneiTsuki.temperaturem.util;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.IneiTsuki.temperaturem.cache.ChunkTemperatureCache;
+import net.IneiTsuki.temperaturem.cache.HeatPyramid;
+import net.IneiTsuki.temperaturem.zones.TemperatureZone;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+/**
+ * Ambient temperature queries computed off the server thread.
+ * <p>
+ * A query is split in two. On the server thread everything that needs the live world
+ * is captured: biome base, shelter and weather, zones, the far-field heat sample and a
+ * copy of the heat index of every section the block scans will touch. The block scans,
+ * which dominate the cost, then run on a small pool of worker threads against that
+ * copy. Results match {@link TemperatureUtil#getTargetTemperature} at the ticks the
+ * query was captured.
+ * <p>
+ * Capture runs at the end of each server tick and covers at most
+ * {@link #CAPTURE_BUDGET} positions per tick over all queries, so a large query is
+ * spread over several ticks. Positions in unloaded chunks are skipped and read as
+ * {@code NaN}; capture never loads or generates chunks.
+ * <p>
+ * At most {@link #MAX_PENDING} queries are in flight. Further queries fail immediately
+ * with a {@link RejectedExecutionException} instead of queueing capture work on the
+ * server thread, so callers can slow down and retry. Queries still waiting for capture
+ * when the server stops fail with an {@link IllegalStateException}.
+ */
+public final class AsyncTemperatureQueries {
+
+    public static final int MAX_PENDING = 64;
+    public static final int MAX_POSITIONS = 1 << 16; // Per query
+    public static final int MAX_SECTIONS = 2048;     // Per query, bounds the heat index copy
+    public static final int CAPTURE_BUDGET = 4096;   // Positions captured per server tick
+
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final int RADIUS = TemperatureUtil.MEDIUM_RADIUS;
+
+    private static final Semaphore PERMITS = new Semaphore(MAX_PENDING);
+    private static final Queue<Capture> CAPTURES = new ConcurrentLinkedQueue<>();
+    private static ThreadPoolExecutor executor;
+    private static volatile boolean stopped = false;
+
+    private AsyncTemperatureQueries() {
+    }
+
+    public static void init() {
+        ServerTickEvents.END_SERVER_TICK.register(AsyncTemperatureQueries::tick);
+        ServerLifecycleEvents.SERVER_STARTING.register(server -> stopped = false);
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> shutdown());
+    }
+
+    /**
+     * Queries the ambient temperature at many positions. May be called from any thread;
+     * capture starts at the end of the current or next server tick.
+     *
+     * @param positions Positions packed with {@link BlockPos#asLong()}, copied before returning
+     * @param callback  Runs the completion of the returned future
+     * @return Temperatures indexed like {@code positions}, {@code NaN} for positions in
+     * unloaded chunks. Fails with an {@link IllegalArgumentException} if the positions
+     * span more than {@link #MAX_SECTIONS} sections.
+     */
+    public static CompletableFuture<double[]> query(ServerWorld world, long[] positions, Executor callback) {
+        if (positions.length > MAX_POSITIONS) {
+            throw new IllegalArgumentException("At most " + MAX_POSITIONS + " positions per query");
+        }
+
+        CompletableFuture<double[]> result = new CompletableFuture<>();
+        if (!PERMITS.tryAcquire()) {
+            complete(result, null, new RejectedExecutionException(
+                    "Too many pending temperature queries (" + MAX_PENDING + ")"), callback);
+            return result;
+        }
+
+        CAPTURES.add(new Capture(world, positions.clone(), callback, result));
+        if (stopped) {
+            // Raced with shutdown, nothing will capture it
+            failPending();
+        }
+        return result;
+    }
+
+    public static synchronized void shutdown() {
+        stopped = true;
+        failPending();
+        if (executor != null) {
+            // Queued queries only read their captured copies, let them finish
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    private static void failPending() {
+        Capture capture;
+        while ((capture = CAPTURES.poll()) != null) {
+            fail(capture, new IllegalStateException("Server stopped before the query was captured"));
+        }
+    }
+
+    private static synchronized Executor getExecutor() {
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(THREADS, THREADS, 30, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(MAX_PENDING), runnable -> {
+                Thread thread = new Thread(runnable, "Temperaturem Query Worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    // ===== Server Thread =====
+
+    private static void tick(MinecraftServer server) {
+        int budget = CAPTURE_BUDGET;
+        while (budget > 0) {
+            Capture capture = CAPTURES.peek();
+            if (capture == null) break;
+
+            try {
+                budget -= capture.step(budget);
+                if (!capture.isDone()) break;
+
+                CAPTURES.poll();
+                Query query = capture.query;
+                query.snapshot = query.frame.cache.snapshot(capture.sections);
+                getExecutor().execute(() -> run(query, capture.callback, capture.result));
+            } catch (Throwable t) {
+                CAPTURES.remove(capture);
+                fail(capture, t);
+            }
+        }
+    }
+
+    private static void fail(Capture capture, Throwable error) {
+        PERMITS.release();
+        complete(capture.result, null, error, capture.callback);
+    }
+
+    /**
+     * A query whose world data is being captured, a budgeted slice per tick.
+     */
+    private static class Capture {
+        private final ServerWorld world;
+        private final Executor callback;
+        private final CompletableFuture<double[]> result;
+        private final Query query;
+        private final LongOpenHashSet sections = new LongOpenHashSet();
+        private final BlockPos.Mutable pos = new BlockPos.Mutable();
+        private int next = 0;
+
+        Capture(ServerWorld world, long[] positions, Executor callback, CompletableFuture<double[]> result) {
+            this.world = world;
+            this.callback = callback;
+            this.result = result;
+            this.query = new Query(positions);
+        }
+
+        boolean isDone() {
+            return next == query.positions.length;
+        }
+
+        /**
+         * Captures up to {@code budget} more positions.
+         *
+         * @return The number of positions captured
+         */
+        int step(int budget) {
+            ClimateFrame frame = ClimateFrame.of(world);
+            HeatPyramid pyramid = frame.cache.getHeatPyramid();
+            query.frame = frame;
+
+            long[] positions = query.positions;
+            int end = Math.min(positions.length, next + budget);
+            int start = next;
+
+            for (int i = start; i < end; i++) {
+                pos.set(positions[i]);
+
+                if (!world.isChunkLoaded(ChunkSectionPos.getSectionCoord(pos.getX()),
+                        ChunkSectionPos.getSectionCoord(pos.getZ()))) {
+                    query.partial[i] = Double.NaN;
+                    continue;
+                }
+
+                List<TemperatureZone> zones = frame.zones.getZonesAt(pos);
+                if (!zones.isEmpty()) {
+                    TemperatureZone primaryZone = zones.get(0);
+                    TemperatureZone.ZoneType type = primaryZone.getType();
+                    query.zoneTypes[i] = type;
+
+                    switch (type) {
+                        case ABSOLUTE:
+                            // Nothing else contributes, no scan needed
+                            query.zoneValues[i] = primaryZone.getTemperatureAt(pos);
+                            continue;
+
+                        case ADDITIVE:
+                            double zoneModifier = 0;
+                            for (TemperatureZone zone : zones) {
+                                if (zone.getType() == TemperatureZone.ZoneType.ADDITIVE) {
+                                    zoneModifier += zone.getTemperatureAt(pos);
+                                }
+                            }
+                            query.zoneValues[i] = zoneModifier;
+                            break;
+
+                        case MULTIPLIER:
+                            query.zoneValues[i] = primaryZone.getTemperatureAt(pos) / 100.0;
+                            break;
+                    }
+                }
+
+                // Every stage except the block scan, which runs on the worker if the pipeline has it
+                query.partial[i] = TemperaturePipeline.evaluate(frame, pos, 0.0);
+                if (!TemperaturePipeline.hasBlockStage()) {
+                    continue;
+                }
+                query.scanBlocks[i] = true;
+                query.farField[i] = pyramid.sampleFarField(pos.getX(), pos.getY(), pos.getZ());
+
+                // Sections the block scan around this position reads
+                for (int sx = (pos.getX() - RADIUS) >> 4; sx <= (pos.getX() + RADIUS) >> 4; sx++) {
+                    for (int sy = (pos.getY() - RADIUS) >> 4; sy <= (pos.getY() + RADIUS) >> 4; sy++) {
+                        for (int sz = (pos.getZ() - RADIUS) >> 4; sz <= (pos.getZ() + RADIUS) >> 4; sz++) {
+                            sections.add(ChunkSectionPos.asLong(sx, sy, sz));
+                        }
+                    }
+                }
+                if (sections.size() > MAX_SECTIONS) {
+                    throw new IllegalArgumentException("Positions span more than " + MAX_SECTIONS + " sections");
+                }
+            }
+
+            next = end;
+            return end - start;
+        }
+    }
+
+    // ===== Worker Thread =====
+
+    private static void run(Query query, Executor callback, CompletableFuture<double[]> result) {
+        double[] out;
+        try {
+            out = query.compute();
+        } catch (Throwable t) {
+            Temperaturem.LOGGER.error("Async temperature query failed", t);
+            PERMITS.release();
+            complete(result, null, t, callback);
+            return;
+        }
+        PERMITS.release();
+        complete(result, out, null, callback);
+    }
+
+    private static <T> void complete(CompletableFuture<T> result, T value, Throwable error, Executor callback) {
+        Runnable completion = () -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        };
+
+        try {
+            callback.execute(completion);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Everything a query needs from the world, captured on the server thread.
+     */
+    private static class Query {
+        private ClimateFrame frame; // Of the last capture slice
+        private final long[] positions;
+        private final double[] partial;  // Pipeline sum without the block stage
+        private final double[] farField; // Heat pyramid sample, scanned sources not yet removed
+        private final boolean[] scanBlocks; // The block stage was registered at capture
+        private final TemperatureZone.ZoneType[] zoneTypes;
+        private final double[] zoneValues;
+        private ChunkTemperatureCache snapshot;
+
+        Query(long[] positions) {
+            this.positions = positions;
+            this.partial = new double[positions.length];
+            this.farField = new double[positions.length];
+            this.scanBlocks = new boolean[positions.length];
+            this.zoneTypes = new TemperatureZone.ZoneType[positions.length];
+            this.zoneValues = new double[positions.length];
+        }
+
+        double[] compute() {
+            double[] out = new double[positions.length];
+            BlockPos.Mutable pos = new BlockPos.Mutable();
+
+            for (int i = 0; i < positions.length; i++) {
+                TemperatureZone.ZoneType zoneType = zoneTypes[i];
+                if (zoneType == TemperatureZone.ZoneType.ABSOLUTE) {
+                    out[i] = TemperatureUtil.clamp(zoneValues[i], -50, 150);
+                    continue;
+                }
+
+                if (Double.isNaN(partial[i])) {
+                    out[i] = Double.NaN; // Chunk was not loaded
+                    continue;
+                }
+
+                double total = partial[i];
+                if (scanBlocks[i]) {
+                    pos.set(positions[i]);
+                    double blockInfluence = TemperatureUtil.getNearbyBlockInfluence(snapshot, pos, farField[i]);
+                    total += blockInfluence * TemperatureUtil.BLOCK_WEIGHT;
+                }
+                double temp = TemperatureUtil.applySeasons(frame, total);
+
+                if (zoneType == TemperatureZone.ZoneType.ADDITIVE) {
+                    temp += zoneValues[i];
+                } else if (zoneType == TemperatureZone.ZoneType.MULTIPLIER) {
+                    temp *= zoneValues[i];
+                }
+                out[i] = TemperatureUtil.clamp(temp, -50, 150);
+            }
+
+            return out;
+        }
+    }
+}
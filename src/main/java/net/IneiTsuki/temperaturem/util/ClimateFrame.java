@@ -0,0 +1,86 @@
+package net.IneiTsuki.temperaturem.util;
+
+import net.IneiTsuki.temperaturem.cache.ChunkTemperatureCache;
+import net.IneiTsuki.temperaturem.cache.EntityHeatIndex;
+import net.IneiTsuki.temperaturem.seasons.SeasonManager;
+import net.IneiTsuki.temperaturem.zones.TemperatureZoneManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The parts of a temperature evaluation that depend only on the world and the current
+ * tick: time of day, weather, season and the world's caches. Captured once per world
+ * and tick and shared by every evaluation in that tick. Immutable.
+ */
+public final class ClimateFrame {
+
+    private static final Map<World, ClimateFrame> FRAMES = new ConcurrentHashMap<>();
+
+    final World world;
+    final long time;
+    final ChunkTemperatureCache cache;
+    final EntityHeatIndex entities;
+    final TemperatureZoneManager zones; // Null outside server worlds
+
+    final double timeModifier;
+    final boolean hasSkyLight;
+    final double weatherCooling;
+    final boolean seasonsEnabled;
+    final double seasonMultiplier;
+    final double seasonModifier;
+
+    private ClimateFrame(World world) {
+        this.world = world;
+        this.time = world.getTime();
+        this.cache = ChunkTemperatureCache.get(world);
+        this.entities = EntityHeatIndex.get(world);
+
+        long timeOfDay = world.getTimeOfDay() % 24000;
+        double normalizedTime = ((timeOfDay - 6000) / 24000.0) * 2 * Math.PI;
+        this.timeModifier = Math.cos(normalizedTime) * 3.0;
+
+        this.hasSkyLight = world.getDimension().hasSkyLight();
+        this.weatherCooling = world.isThundering() ? 12.0 : world.isRaining() ? 8.0 : 0.0;
+
+        if (world instanceof ServerWorld serverWorld) {
+            this.zones = TemperatureZoneManager.get(serverWorld);
+            SeasonManager seasonManager = SeasonManager.get(serverWorld);
+            this.seasonsEnabled = seasonManager.isEnabled();
+            this.seasonMultiplier = seasonsEnabled ? seasonManager.getSeasonalTemperatureMultiplier() : 1.0;
+            this.seasonModifier = seasonsEnabled ? seasonManager.getSeasonalTemperatureModifier() : 0.0;
+        } else {
+            this.zones = null;
+            this.seasonsEnabled = false;
+            this.seasonMultiplier = 1.0;
+            this.seasonModifier = 0.0;
+        }
+    }
+
+    /**
+     * Gets the frame for the world's current tick, capturing a new one on the first
+     * call of each tick.
+     */
+    public static ClimateFrame of(World world) {
+        ClimateFrame frame = FRAMES.get(world);
+        if (frame == null || frame.time != world.getTime()) {
+            frame = new ClimateFrame(world);
+            FRAMES.put(world, frame);
+        }
+        return frame;
+    }
+
+    public static void clearFrames() {
+        FRAMES.clear();
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public ChunkTemperatureCache getCache() {
+        return cache;
+    }
+}
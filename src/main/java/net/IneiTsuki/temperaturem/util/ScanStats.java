@@ -0,0 +1,20 @@
+package net.IneiTsuki.temperaturem.util;
+
+/**
+ * What the block scan of one temperature evaluation found, filled in by
+ * {@link TemperatureUtil#getTargetTemperature(net.minecraft.world.World, net.minecraft.util.math.BlockPos, ScanStats)}.
+ * Owned by the caller and reused between evaluations, so it must only be used by one
+ * thread at a time.
+ */
+public final class ScanStats {
+
+    int sources = 0;
+
+    /**
+     * Gets the number of heat emitting blocks found by the last evaluation's block scan,
+     * 0 if it did not scan (e.g. inside an absolute zone).
+     */
+    public int getSourceCount() {
+        return sources;
+    }
+}
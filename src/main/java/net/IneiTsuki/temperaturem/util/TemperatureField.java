@@ -0,0 +1,164 @@
+package net.IneiTsuki.temperaturem.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.IneiTsuki.temperaturem.cache.ChunkTemperatureCache;
+import net.IneiTsuki.temperaturem.cache.HeatPyramid;
+import net.IneiTsuki.temperaturem.zones.TemperatureZone;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ambient temperatures for every block in a box, matching what
+ * {@link TemperatureUtil#getTargetTemperature} gives for each block to float precision.
+ * <p>
+ * Instead of running the 5x5x5 block scan for every cell, each heat source in the box
+ * (plus the scan radius around it) is visited once and scattered into the cells it
+ * reaches. The weighted influence, the occlusion weighted source count for the
+ * diminishing-returns factor and the source share of the far field are accumulated in
+ * three parallel grids of doubles, like the point query, so the cost is linear in the
+ * volume plus a constant per source.
+ * <p>
+ * The grids take 28 bytes per cell and every cell still runs the rest of the pipeline on
+ * the server thread, so a box at {@link #MAX_VOLUME} holds about 7 MB and costs roughly
+ * as much as that many cached point queries.
+ */
+public final class TemperatureField {
+
+    // Cells per query (64x64x64), larger boxes should be split by the caller
+    public static final int MAX_VOLUME = 1 << 18;
+
+    private static final int RADIUS = TemperatureUtil.MEDIUM_RADIUS;
+    private static final int WIDTH = RADIUS * 2 + 1;
+
+    private TemperatureField() {
+    }
+
+    /**
+     * Computes the field over the blocks a box covers. Must be called on the server thread.
+     *
+     * @return Temperatures indexed {@code ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX)},
+     * where min is the floored box minimum and each size is at least 1
+     * @throws IllegalArgumentException if the box covers more than {@link #MAX_VOLUME} blocks
+     */
+    public static float[] compute(ServerWorld world, Box box) {
+        int minX = (int) Math.floor(box.minX);
+        int minY = (int) Math.floor(box.minY);
+        int minZ = (int) Math.floor(box.minZ);
+        int sizeX = Math.max(1, (int) Math.ceil(box.maxX) - minX);
+        int sizeY = Math.max(1, (int) Math.ceil(box.maxY) - minY);
+        int sizeZ = Math.max(1, (int) Math.ceil(box.maxZ) - minZ);
+
+        long volume = (long) sizeX * sizeY * sizeZ;
+        if (volume > MAX_VOLUME) {
+            throw new IllegalArgumentException("Box covers " + volume + " blocks, the limit is " + MAX_VOLUME);
+        }
+
+        ClimateFrame frame = ClimateFrame.of(world);
+        ChunkTemperatureCache cache = frame.cache;
+        HeatPyramid pyramid = cache.getHeatPyramid();
+
+        int cells = (int) volume;
+        double[] influence = new double[cells];
+        double[] sources = new double[cells];
+        double[] nearFarField = new double[cells];
+
+        // ===== Scatter Sources =====
+
+        for (int sy = minY - RADIUS; sy < minY + sizeY + RADIUS; sy++) {
+            for (int sz = minZ - RADIUS; sz < minZ + sizeZ + RADIUS; sz++) {
+                for (int sx = minX - RADIUS; sx < minX + sizeX + RADIUS; sx++) {
+                    int temp = cache.getBlockTemperature(sx, sy, sz);
+                    int tableTemp = cache.getTableTemperature(sx, sy, sz);
+                    if (temp == 0 && tableTemp == 0) continue;
+
+                    // The scan at a target sees this source at offset source - target
+                    for (int ox = -RADIUS; ox <= RADIUS; ox++) {
+                        int tx = sx - ox;
+                        if (tx < minX || tx >= minX + sizeX) continue;
+
+                        for (int oy = -RADIUS; oy <= RADIUS; oy++) {
+                            int ty = sy - oy;
+                            if (ty < minY || ty >= minY + sizeY) continue;
+
+                            for (int oz = -RADIUS; oz <= RADIUS; oz++) {
+                                int tz = sz - oz;
+                                if (tz < minZ || tz >= minZ + sizeZ) continue;
+
+                                int cell = ((ty - minY) * sizeZ + (tz - minZ)) * sizeX + (tx - minX);
+
+                                // The far field summed table temperatures, see TemperatureUtil
+                                if (tableTemp != 0) {
+                                    nearFarField[cell] += tableTemp * pyramid.getSectionWeight(
+                                            sx >> 4, sy >> 4, sz >> 4, tx, ty, tz);
+                                }
+                                if (temp == 0) continue;
+
+                                double attenuation = 1.0;
+                                int occluders = TemperatureUtil.countOccluders(cache, sx, sy, sz, tx, ty, tz);
+                                for (int o = 0; o < occluders; o++) {
+                                    attenuation *= TemperatureUtil.OCCLUSION_FACTOR;
+                                }
+
+                                int kernel = ((ox + RADIUS) * WIDTH + (oy + RADIUS)) * WIDTH + (oz + RADIUS);
+                                influence[cell] += temp * TemperatureUtil.KERNEL[kernel] * attenuation;
+                                sources[cell] += attenuation;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // ===== Resolve Cells =====
+
+        float[] field = new float[cells];
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        Long2ObjectOpenHashMap<List<TemperatureZone>> sectionZones = new Long2ObjectOpenHashMap<>();
+        List<TemperatureZone> matching = new ArrayList<>();
+
+        int cell = 0;
+        for (int y = minY; y < minY + sizeY; y++) {
+            for (int z = minZ; z < minZ + sizeZ; z++) {
+                for (int x = minX; x < minX + sizeX; x++, cell++) {
+                    pos.set(x, y, z);
+
+                    double farField = pyramid.sampleFarField(x, y, z) - nearFarField[cell];
+                    double blockInfluence = TemperatureUtil.combineBlockInfluence(
+                            influence[cell], sources[cell], farField);
+
+                    long sectionKey = ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4);
+                    List<TemperatureZone> zones = sectionZones.get(sectionKey);
+                    if (zones == null) {
+                        zones = frame.zones.getZonesInSection(x >> 4, y >> 4, z >> 4);
+                        sectionZones.put(sectionKey, zones);
+                    }
+
+                    double temp = Double.NaN;
+                    if (!zones.isEmpty()) {
+                        matching.clear();
+                        for (TemperatureZone zone : zones) {
+                            if (zone.contains(pos)) {
+                                matching.add(zone);
+                            }
+                        }
+                        if (!matching.isEmpty()) {
+                            temp = TemperatureUtil.applyZones(frame, pos, matching, blockInfluence);
+                        }
+                    }
+
+                    if (Double.isNaN(temp)) {
+                        temp = TemperatureUtil.getNaturalTemperature(frame, pos, blockInfluence);
+                    }
+                    field[cell] = (float) TemperatureUtil.clamp(temp, -50, 150);
+                }
+            }
+        }
+
+        return field;
+    }
+}
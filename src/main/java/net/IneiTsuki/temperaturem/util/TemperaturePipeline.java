@@ -0,0 +1,212 @@
+package net.IneiTsuki.temperaturem.util;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleLinkedOpenHashMap;
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.IneiTsuki.temperaturem.api.TemperatureContributor;
+import net.IneiTsuki.temperaturem.data.BiomeTemperatureRegistry;
+import net.IneiTsuki.temperaturem.data.TemperatureRegistry;
+import net.IneiTsuki.temperaturem.profiling.TemperatureProfiler;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The ordered list of {@link TemperatureContributor}s summed into the natural
+ * temperature, before seasons and zones. Registrations are compiled into flat arrays,
+ * one for static and one for dynamic stages, so an evaluation is a plain array loop.
+ * <p>
+ * The sum of all static stages is cached per world and position. The cache is dropped
+ * when the pipeline, block or biome temperatures change, and bounded in size by
+ * evicting the least recently used position, so field, batch and mob queries that
+ * sweep many positions do not flush the entries players keep hitting.
+ */
+public final class TemperaturePipeline {
+
+    private static final int MAX_STATIC_ENTRIES = 8192; // Per world, least recently used evicted
+
+    private static final List<TemperatureContributor> CONTRIBUTORS = new ArrayList<>();
+    private static final Map<World, StaticCache> STATIC_CACHES = new ConcurrentHashMap<>();
+
+    private static volatile Compiled compiled = new Compiled(new TemperatureContributor[0],
+            new TemperatureContributor[0], 0);
+    private static int generation = 0;
+
+    static {
+        for (TemperatureContributor contributor : TemperatureUtil.BUILTIN_CONTRIBUTORS) {
+            CONTRIBUTORS.add(contributor);
+        }
+        compile();
+    }
+
+    private TemperaturePipeline() {
+    }
+
+    // ===== Registration =====
+
+    /**
+     * Appends a contributor to the pipeline. Stages are evaluated in registration order,
+     * after the built-in ones.
+     *
+     * @throws IllegalArgumentException if a contributor with the same id is registered
+     */
+    public static synchronized void register(TemperatureContributor contributor) {
+        for (TemperatureContributor existing : CONTRIBUTORS) {
+            if (existing.getId().equals(contributor.getId())) {
+                throw new IllegalArgumentException("Temperature contributor already registered: " + contributor.getId());
+            }
+        }
+
+        CONTRIBUTORS.add(contributor);
+        compile();
+        Temperaturem.LOGGER.info("Registered {} temperature contributor '{}'",
+                contributor.getScope().name().toLowerCase(), contributor.getId());
+    }
+
+    public static synchronized boolean unregister(Identifier id) {
+        boolean removed = CONTRIBUTORS.removeIf(contributor -> contributor.getId().equals(id));
+        if (removed) {
+            compile();
+        }
+        return removed;
+    }
+
+    public static synchronized List<TemperatureContributor> getContributors() {
+        return List.copyOf(CONTRIBUTORS);
+    }
+
+    /**
+     * Drops all cached static contributions, for static contributors whose inputs
+     * changed outside of a datapack reload.
+     */
+    public static synchronized void invalidateStaticCache() {
+        generation++;
+        compiled = new Compiled(compiled.staticStages, compiled.dynamicStages, generation);
+    }
+
+    public static void clearInstances() {
+        STATIC_CACHES.clear();
+    }
+
+    private static void compile() {
+        List<TemperatureContributor> staticStages = new ArrayList<>();
+        List<TemperatureContributor> dynamicStages = new ArrayList<>();
+        for (TemperatureContributor contributor : CONTRIBUTORS) {
+            if (contributor.getScope() == TemperatureContributor.Scope.STATIC) {
+                staticStages.add(contributor);
+            } else {
+                dynamicStages.add(contributor);
+            }
+        }
+
+        generation++;
+        compiled = new Compiled(staticStages.toArray(new TemperatureContributor[0]),
+                dynamicStages.toArray(new TemperatureContributor[0]), generation);
+    }
+
+    /**
+     * Whether the built-in block stage is currently part of the pipeline.
+     */
+    static boolean hasBlockStage() {
+        for (TemperatureContributor stage : compiled.dynamicStages) {
+            if (stage == TemperatureUtil.BLOCK_CONTRIBUTOR) return true;
+        }
+        return false;
+    }
+
+    // ===== Evaluation =====
+
+    /**
+     * Sums every stage at a position.
+     *
+     * @param blockInfluence The raw block influence if already known, or NaN to let the
+     *                       block stage scan for it
+     */
+    static double evaluate(ClimateFrame frame, BlockPos pos, double blockInfluence) {
+        Compiled pipeline = compiled;
+        World world = frame.world;
+
+        double total = 0;
+        if (pipeline.staticStages.length > 0) {
+            total += getStaticContribution(frame, pos, pipeline);
+        }
+
+        for (TemperatureContributor stage : pipeline.dynamicStages) {
+            long time = TemperatureProfiler.start();
+            if (stage == TemperatureUtil.BLOCK_CONTRIBUTOR && !Double.isNaN(blockInfluence)) {
+                total += blockInfluence * TemperatureUtil.BLOCK_WEIGHT;
+            } else {
+                total += stage.getContribution(frame, pos);
+            }
+            TemperatureProfiler.endStage(world, stage.getId(), time);
+        }
+
+        return total;
+    }
+
+    private static double getStaticContribution(ClimateFrame frame, BlockPos pos, Compiled pipeline) {
+        StaticCache cache = STATIC_CACHES.computeIfAbsent(frame.world, world -> new StaticCache());
+        cache.validate(pipeline.generation);
+
+        long key = pos.asLong();
+        double cached = cache.values.getAndMoveToLast(key);
+        if (!Double.isNaN(cached)) {
+            return cached;
+        }
+
+        double total = 0;
+        for (TemperatureContributor stage : pipeline.staticStages) {
+            long time = TemperatureProfiler.start();
+            total += stage.getContribution(frame, pos);
+            TemperatureProfiler.endStage(frame.world, stage.getId(), time);
+        }
+
+        if (cache.values.size() >= MAX_STATIC_ENTRIES) {
+            cache.values.removeFirstDouble();
+        }
+        cache.values.putAndMoveToLast(key, total);
+        return total;
+    }
+
+    private static class Compiled {
+        private final TemperatureContributor[] staticStages;
+        private final TemperatureContributor[] dynamicStages;
+        private final int generation;
+
+        Compiled(TemperatureContributor[] staticStages, TemperatureContributor[] dynamicStages, int generation) {
+            this.staticStages = staticStages;
+            this.dynamicStages = dynamicStages;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * Cached static sums for one world, only touched by the thread that owns the world.
+     */
+    private static class StaticCache {
+        private final Long2DoubleLinkedOpenHashMap values = new Long2DoubleLinkedOpenHashMap();
+        private int pipelineGeneration = -1;
+        private int blockGeneration = -1;
+        private int biomeGeneration = -1;
+
+        StaticCache() {
+            values.defaultReturnValue(Double.NaN);
+        }
+
+        void validate(int currentPipelineGeneration) {
+            int currentBlockGeneration = TemperatureRegistry.getGeneration();
+            int currentBiomeGeneration = BiomeTemperatureRegistry.getGeneration();
+            if (pipelineGeneration != currentPipelineGeneration || blockGeneration != currentBlockGeneration
+                    || biomeGeneration != currentBiomeGeneration) {
+                values.clear();
+                pipelineGeneration = currentPipelineGeneration;
+                blockGeneration = currentBlockGeneration;
+                biomeGeneration = currentBiomeGeneration;
+            }
+        }
+    }
+}
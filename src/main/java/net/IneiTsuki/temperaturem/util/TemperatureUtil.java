@@ -1,26 +1,34 @@
 package net.IneiTsuki.temperaturem.util;
 
-import net.IneiTsuki.temperaturem.data.BiomeTemperatureRegistry;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import net.IneiTsuki.temperaturem.Temperaturem;
+import net.IneiTsuki.temperaturem.api.TemperatureContributor;
+import net.IneiTsuki.temperaturem.cache.ChunkClimateData;
+import net.IneiTsuki.temperaturem.cache.ChunkTemperatureCache;
+import net.IneiTsuki.temperaturem.cache.HeatPyramid;
 import net.IneiTsuki.temperaturem.data.TemperatureRegistry;
-import net.IneiTsuki.temperaturem.seasons.SeasonManager;
+import net.IneiTsuki.temperaturem.profiling.TemperatureProfiler;
+import net.IneiTsuki.temperaturem.rooms.Room;
+import net.IneiTsuki.temperaturem.rooms.RoomDetector;
 import net.IneiTsuki.temperaturem.zones.TemperatureZone;
-import net.IneiTsuki.temperaturem.zones.TemperatureZoneManager;
 import net.minecraft.block.BlockState;
 import net.minecraft.fluid.Fluids;
-import net.minecraft.registry.RegistryKey;
-import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.LightType;
 import net.minecraft.world.World;
-import net.minecraft.world.biome.Biome;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class TemperatureUtil {
 
     private static final int CLOSE_RADIUS = 1;
-    private static final int MEDIUM_RADIUS = 2;
+    static final int MEDIUM_RADIUS = 2;
 
     // Block influence weights
     private static final double CLOSE_WEIGHT = 0.7;
@@ -28,154 +36,426 @@ public class TemperatureUtil {
     private static final double FEET_MULTIPLIER = 0.5;
     private static final double POSITION_MULTIPLIER = 1.0;
 
+    // Heat passing through each opaque block keeps this fraction
+    static final double OCCLUSION_FACTOR = 0.3;
+
+    // Limit on the summed influence of sources beyond the scan window
+    private static final double FAR_FIELD_CAP = 25.0;
+
+    // Weight of every offset in the 5x5x5 scan, indexed [x][y][z] from -MEDIUM_RADIUS
+    static final double[] KERNEL = buildKernel();
+
     // Biome vs block weighting
     private static final double BIOME_WEIGHT = 1.0;
-    private static final double BLOCK_WEIGHT = 0.3;
+    static final double BLOCK_WEIGHT = 0.3;
+
+    // Shelter and sky exposure
+    public static final double EXPOSURE_OPEN = 1.0;
+    public static final double EXPOSURE_ENCLOSED = 0.0;
+    private static final double PARTIAL_EXPOSURE_MAX = 0.5;
+    private static final double SHELTER_BONUS = 5.0;
+    private static final double MIN_WEATHER_EXPOSURE = 0.25;
+    private static final int ROOF_SEARCH_HEIGHT = 5; // Dimensions without a sky only
+
+    // Sealed room insulation
+    private static final double ROOM_INSULATION_BONUS = 2.0;
+    private static final double ROOM_HEAT_FACTOR = 3.0;
+    private static final double ROOM_HEAT_CAP = 20.0;
+    private static final int MIN_ROOM_VOLUME = 8;
+
+    // Heat giving entities nearby, capped so a crowd cannot dominate the biome
+    private static final double ENTITY_WEIGHT = 0.3;
+    private static final double ENTITY_CAP = 15.0;
+
+    // Time and altitude scaling applied in extreme biomes
+    private static final double EXTREME_TIME_SCALE = 0.5;
+    private static final double EXTREME_ALTITUDE_SCALE = 0.3;
+
+    // ===== Built-in Pipeline Stages =====
+
+    static final TemperatureContributor BIOME_CONTRIBUTOR = TemperatureContributor.of(
+            new Identifier(Temperaturem.MOD_ID, "biome"), TemperatureContributor.Scope.STATIC,
+            TemperatureUtil::getBiomeTemperature);
+    static final TemperatureContributor TIME_CONTRIBUTOR = TemperatureContributor.of(
+            new Identifier(Temperaturem.MOD_ID, "time_of_day"), TemperatureContributor.Scope.DYNAMIC,
+            TemperatureUtil::getTimeOfDayModifier);
+    static final TemperatureContributor BLOCK_CONTRIBUTOR = TemperatureContributor.of(
+            new Identifier(Temperaturem.MOD_ID, "blocks"), TemperatureContributor.Scope.DYNAMIC,
+            TemperatureUtil::getBlockContribution);
+    static final TemperatureContributor ENTITY_CONTRIBUTOR = TemperatureContributor.of(
+            new Identifier(Temperaturem.MOD_ID, "entities"), TemperatureContributor.Scope.DYNAMIC,
+            TemperatureUtil::getEntityContribution);
+    static final TemperatureContributor ENVIRONMENT_CONTRIBUTOR = TemperatureContributor.of(
+            new Identifier(Temperaturem.MOD_ID, "environment"), TemperatureContributor.Scope.DYNAMIC,
+            TemperatureUtil::getEnvironmentalModifiers);
+
+    static final TemperatureContributor[] BUILTIN_CONTRIBUTORS = {
+            BIOME_CONTRIBUTOR, TIME_CONTRIBUTOR, BLOCK_CONTRIBUTOR, ENTITY_CONTRIBUTOR, ENVIRONMENT_CONTRIBUTOR
+    };
 
     public static double getTargetTemperature(World world, BlockPos playerPos) {
+        return getTargetTemperature(world, playerPos, null);
+    }
+
+    /**
+     * @param scan Receives what the block scan found, or null if not needed
+     */
+    public static double getTargetTemperature(World world, BlockPos playerPos, ScanStats scan) {
+        TemperatureProfiler.count(world, TemperatureProfiler.Counter.EVALUATIONS, 1);
+        ClimateFrame frame = ClimateFrame.of(world);
+        if (scan != null) {
+            scan.sources = 0;
+        }
+
         // Check for temperature zones first (highest priority)
-        if (world instanceof ServerWorld serverWorld) {
-            Double zoneTemp = getZoneTemperature(serverWorld, playerPos);
-            if (zoneTemp != null) {
+        List<TemperatureZone> zones = frame.zones != null ? getZonesAt(frame, playerPos) : Collections.emptyList();
+        if (!zones.isEmpty() && zones.get(0).getType() == TemperatureZone.ZoneType.ABSOLUTE) {
+            return clamp(applyZones(frame, playerPos, zones, Double.NaN), -50, 150);
+        }
+
+        // Scan here when the caller wants the source count, the block stage then reuses it
+        double blockInfluence = Double.NaN;
+        if (scan != null && TemperaturePipeline.hasBlockStage()) {
+            blockInfluence = getNearbyBlockInfluence(frame, playerPos, scan);
+        }
+
+        if (!zones.isEmpty()) {
+            double zoneTemp = applyZones(frame, playerPos, zones, blockInfluence);
+            if (!Double.isNaN(zoneTemp)) {
                 return clamp(zoneTemp, -50, 150);
             }
         }
 
         // Fall back to standard calculation
-        double baseTemp = getBaseTemperature(world, playerPos) * BIOME_WEIGHT;
-        double blockInfluence = getNearbyBlockInfluence(world, playerPos) * BLOCK_WEIGHT;
-        double environmentMod = getEnvironmentalModifiers(world, playerPos);
-
-        double finalTemp = baseTemp + blockInfluence + environmentMod;
-
-        // Apply seasonal effects
-        if (world instanceof ServerWorld serverWorld) {
-            SeasonManager seasonManager = SeasonManager.get(serverWorld);
-            if (seasonManager.isEnabled()) {
-                // Apply multiplier first
-                double multiplier = seasonManager.getSeasonalTemperatureMultiplier();
-                finalTemp *= multiplier;
-
-                // Then add modifier
-                double modifier = seasonManager.getSeasonalTemperatureModifier();
-                finalTemp += modifier;
+        return clamp(getNaturalTemperature(frame, playerPos, blockInfluence), -50, 150);
+    }
+
+    /**
+     * Gets the ambient temperature a mob feels at a position. Like
+     * {@link #getTargetTemperature}, but only zones that affect mobs apply.
+     */
+    public static double getMobTargetTemperature(World world, BlockPos pos) {
+        ClimateFrame frame = ClimateFrame.of(world);
+
+        if (frame.zones != null) {
+            List<TemperatureZone> zones = frame.zones.getZonesAt(pos);
+            List<TemperatureZone> mobZones = zones;
+            for (TemperatureZone zone : zones) {
+                if (!zone.affectsMobs()) {
+                    // Only copy in the rare case of mixed zones
+                    mobZones = new ArrayList<>(zones.size());
+                    for (TemperatureZone candidate : zones) {
+                        if (candidate.affectsMobs()) {
+                            mobZones.add(candidate);
+                        }
+                    }
+                    break;
+                }
+            }
+
+            if (!mobZones.isEmpty()) {
+                double zoneTemp = applyZones(frame, pos, mobZones, Double.NaN);
+                if (!Double.isNaN(zoneTemp)) {
+                    return clamp(zoneTemp, -50, 150);
+                }
             }
         }
 
-        return clamp(finalTemp, -50, 150);
+        return clamp(getNaturalTemperature(frame, pos, Double.NaN), -50, 150);
     }
 
-    private static double getBaseTemperature(World world, BlockPos pos) {
-        RegistryEntry<Biome> biomeEntry = world.getBiome(pos);
+    /**
+     * Computes the ambient temperature at many positions at once, the same value
+     * {@link #getTargetTemperature} gives for each. Positions are visited in chunk
+     * section order so the climate frame, cached sections and the zones overlapping each
+     * section are looked up once per section rather than once per position.
+     *
+     * @param positions Positions packed with {@link BlockPos#asLong()}
+     * @param out       Receives the temperature of {@code positions[i]} at index {@code i}
+     */
+    public static void getAmbientTemperatures(ServerWorld world, long[] positions, double[] out) {
+        if (out.length < positions.length) {
+            throw new IllegalArgumentException("Output array is shorter than the position array");
+        }
 
-        Identifier biomeId = biomeEntry.getKey()
-                .map(RegistryKey::getValue)
-                .orElse(null);
+        int count = positions.length;
+        long[] sectionKeys = new long[count];
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            long packed = positions[i];
+            sectionKeys[i] = ChunkSectionPos.asLong(BlockPos.unpackLongX(packed) >> 4,
+                    BlockPos.unpackLongY(packed) >> 4, BlockPos.unpackLongZ(packed) >> 4);
+            order[i] = i;
+        }
+        IntArrays.quickSort(order, (a, b) -> Long.compare(sectionKeys[a], sectionKeys[b]));
+
+        ClimateFrame frame = ClimateFrame.of(world);
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        List<TemperatureZone> sectionZones = Collections.emptyList();
+        List<TemperatureZone> matching = new ArrayList<>();
+        long currentSection = 0;
+
+        for (int i = 0; i < count; i++) {
+            int index = order[i];
+            long sectionKey = sectionKeys[index];
+            if (i == 0 || sectionKey != currentSection) {
+                currentSection = sectionKey;
+                sectionZones = frame.zones.getZonesInSection(ChunkSectionPos.unpackX(sectionKey),
+                        ChunkSectionPos.unpackY(sectionKey), ChunkSectionPos.unpackZ(sectionKey));
+            }
 
-        Integer biomeOverride = biomeId != null
-                ? BiomeTemperatureRegistry.getTemperatureOverride(biomeId)
-                : null;
+            pos.set(positions[index]);
+            double temp = Double.NaN;
 
-        double altitudeMod = Math.max(-20, Math.min(10, (64 - pos.getY()) * 0.1));
-        double timeMod = getTimeTemperatureModifier(world);
+            if (!sectionZones.isEmpty()) {
+                matching.clear();
+                for (TemperatureZone zone : sectionZones) {
+                    if (zone.contains(pos)) {
+                        matching.add(zone);
+                    }
+                }
+                if (!matching.isEmpty()) {
+                    temp = applyZones(frame, pos, matching, Double.NaN);
+                }
+            }
 
-        if (biomeOverride != null) {
-            // Reduce modifiers for extreme biomes
-            if (Math.abs(biomeOverride) > 40) {
-                timeMod *= 0.5;
-                altitudeMod *= 0.3;
+            if (Double.isNaN(temp)) {
+                temp = getNaturalTemperature(frame, pos, Double.NaN);
             }
-            return biomeOverride + timeMod + altitudeMod;
+            out[index] = clamp(temp, -50, 150);
         }
+    }
 
-        Biome biome = biomeEntry.value();
-        double biomeTemp = biome.getTemperature() * 20.0;
+    /**
+     * The contribution pipeline's sum with seasons applied. Each pipeline stage is
+     * timed separately when the profiler is running.
+     *
+     * @param blockInfluence The raw block influence if already known, or NaN to scan for it
+     */
+    static double getNaturalTemperature(ClimateFrame frame, BlockPos pos, double blockInfluence) {
+        double total = TemperaturePipeline.evaluate(frame, pos, blockInfluence);
 
-        return biomeTemp + altitudeMod + timeMod;
-    }
+        long time = TemperatureProfiler.start();
+        double finalTemp = applySeasons(frame, total);
+        TemperatureProfiler.end(frame.world, TemperatureProfiler.Phase.SEASON, time);
 
-    private static double getTimeTemperatureModifier(World world) {
-        long time = world.getTimeOfDay() % 24000;
-        double normalizedTime = ((time - 6000) / 24000.0) * 2 * Math.PI;
-        return Math.cos(normalizedTime) * 3.0;
+        return finalTemp;
     }
 
-    private static double getNearbyBlockInfluence(World world, BlockPos center) {
-        double influence = 0;
-        int heatSources = 0;
-        int coldSources = 0;
-
-        BlockPos.Mutable mutablePos = new BlockPos.Mutable();
-
-        // Check center and feet blocks first
-        BlockState[] specialStates = {
-                world.getBlockState(center),
-                world.getBlockState(center.down())
-        };
-        double[] multipliers = {POSITION_MULTIPLIER, FEET_MULTIPLIER};
-
-        for (int i = 0; i < specialStates.length; i++) {
-            int temp = TemperatureRegistry.getTemperature(specialStates[i]);
-            if (temp != 0) {
-                influence += temp * CLOSE_WEIGHT * multipliers[i];
-                if (temp > 0) heatSources++;
-                else coldSources++;
-            }
+    static double applySeasons(ClimateFrame frame, double temp) {
+        // Apply seasonal effects, multiplier first and then the modifier
+        if (frame.seasonsEnabled) {
+            temp *= frame.seasonMultiplier;
+            temp += frame.seasonModifier;
         }
+        return temp;
+    }
 
-        // Close radius blocks
-        for (int x = -CLOSE_RADIUS; x <= CLOSE_RADIUS; x++) {
-            for (int y = -CLOSE_RADIUS; y <= CLOSE_RADIUS; y++) {
-                for (int z = -CLOSE_RADIUS; z <= CLOSE_RADIUS; z++) {
-                    if ((x == 0 && y == 0 && z == 0) || (x == 0 && y == -1 && z == 0)) continue;
-                    mutablePos.set(center.getX() + x, center.getY() + y, center.getZ() + z);
-                    int temp = TemperatureRegistry.getTemperature(world.getBlockState(mutablePos));
-                    if (temp != 0) {
-                        influence += temp * CLOSE_WEIGHT;
-                        if (temp > 0) heatSources++;
-                        else coldSources++;
-                    }
-                }
-            }
-        }
+    /**
+     * Blended biome temperature plus altitude, which only change on reload.
+     */
+    private static double getBiomeTemperature(ClimateFrame frame, BlockPos pos) {
+        World world = frame.world;
+
+        // Blended biome temperature from the chunk's precomputed quart grid
+        ChunkClimateData climate = frame.cache.getClimate(pos);
+        double biomeTemp = climate.getBiomeTemperature(world, pos.getX(), pos.getY(), pos.getZ());
+        double extremeWeight = climate.getExtremeWeight(world, pos.getX(), pos.getY(), pos.getZ());
+
+        // Reduce the altitude modifier for extreme biomes, proportionally near their borders
+        double altitudeMod = Math.max(-20, Math.min(10, (64 - pos.getY()) * 0.1));
+        altitudeMod *= 1.0 - (1.0 - EXTREME_ALTITUDE_SCALE) * extremeWeight;
+
+        return (biomeTemp + altitudeMod) * BIOME_WEIGHT;
+    }
+
+    private static double getTimeOfDayModifier(ClimateFrame frame, BlockPos pos) {
+        float extremeWeight = frame.cache.getClimate(pos)
+                .getExtremeWeight(frame.world, pos.getX(), pos.getY(), pos.getZ());
+
+        // Extreme biomes swing less between day and night
+        double timeMod = frame.timeModifier * (1.0 - (1.0 - EXTREME_TIME_SCALE) * extremeWeight);
+        return timeMod * BIOME_WEIGHT;
+    }
+
+    private static double getBlockContribution(ClimateFrame frame, BlockPos pos) {
+        return getNearbyBlockInfluence(frame, pos, null) * BLOCK_WEIGHT;
+    }
+
+    /**
+     * Heat from nearby entities. The lookup is shared by every evaluation in the same
+     * chunk section and tick.
+     */
+    private static double getEntityContribution(ClimateFrame frame, BlockPos pos) {
+        double influence = frame.entities.getInfluence(frame.time, pos);
+        return clamp(influence * ENTITY_WEIGHT, -ENTITY_CAP, ENTITY_CAP);
+    }
+
+    private static double getNearbyBlockInfluence(ClimateFrame frame, BlockPos center, ScanStats scan) {
+        TemperatureProfiler.count(frame.world, TemperatureProfiler.Counter.POSITIONS_SCANNED, KERNEL.length);
+        HeatPyramid pyramid = frame.cache.getHeatPyramid();
+        return getNearbyBlockInfluence(frame.cache, center,
+                pyramid.sampleFarField(center.getX(), center.getY(), center.getZ()), scan);
+    }
+
+    /**
+     * Gets the raw block heat influence at a position from a heat index, before
+     * {@code BLOCK_WEIGHT} is applied.
+     */
+    public static double getNearbyBlockInfluence(ChunkTemperatureCache cache, BlockPos center) {
+        return getNearbyBlockInfluence(cache, center,
+                cache.getHeatPyramid().sampleFarField(center.getX(), center.getY(), center.getZ()));
+    }
+
+    /**
+     * @param farFieldSample The heat pyramid's far-field sample at the position, so that
+     *                       snapshot caches without a pyramid can be scanned
+     */
+    static double getNearbyBlockInfluence(ChunkTemperatureCache cache, BlockPos center, double farFieldSample) {
+        return getNearbyBlockInfluence(cache, center, farFieldSample, null);
+    }
+
+    private static double getNearbyBlockInfluence(ChunkTemperatureCache cache, BlockPos center, double farFieldSample,
+                                                  ScanStats scan) {
+        int centerX = center.getX();
+        int centerY = center.getY();
+        int centerZ = center.getZ();
+
+        HeatPyramid pyramid = cache.getHeatPyramid();
+
+        double influence = 0;
+        double sources = 0;
+        double nearFarField = 0; // Share of the far-field sum already covered by this scan
+        int found = 0;
 
-        // Medium radius blocks with distance weighting
+        int i = 0;
         for (int x = -MEDIUM_RADIUS; x <= MEDIUM_RADIUS; x++) {
             for (int y = -MEDIUM_RADIUS; y <= MEDIUM_RADIUS; y++) {
-                for (int z = -MEDIUM_RADIUS; z <= MEDIUM_RADIUS; z++) {
-                    if (Math.abs(x) <= CLOSE_RADIUS && Math.abs(y) <= CLOSE_RADIUS && Math.abs(z) <= CLOSE_RADIUS)
-                        continue;
-                    mutablePos.set(center.getX() + x, center.getY() + y, center.getZ() + z);
-                    int temp = TemperatureRegistry.getTemperature(world.getBlockState(mutablePos));
-                    if (temp != 0) {
-                        double distance = Math.sqrt(x * x + y * y + z * z);
-                        influence += temp * (MEDIUM_WEIGHT / distance);
-                        if (temp > 0) heatSources++;
-                        else coldSources++;
+                for (int z = -MEDIUM_RADIUS; z <= MEDIUM_RADIUS; z++, i++) {
+                    int temp = cache.getBlockTemperature(centerX + x, centerY + y, centerZ + z);
+                    int tableTemp = cache.getTableTemperature(centerX + x, centerY + y, centerZ + z);
+
+                    // The far field summed table temperatures, remove those even where a provider overrides them
+                    if (tableTemp != 0) {
+                        nearFarField += tableTemp * pyramid.getSectionWeight((centerX + x) >> 4, (centerY + y) >> 4,
+                                (centerZ + z) >> 4, centerX, centerY, centerZ);
                     }
+
+                    if (temp == 0) continue;
+                    found++;
+
+                    // Opaque blocks between the source and the player absorb its heat
+                    double attenuation = 1.0;
+                    int occluders = countOccluders(cache, centerX + x, centerY + y, centerZ + z,
+                            centerX, centerY, centerZ);
+                    for (int o = 0; o < occluders; o++) {
+                        attenuation *= OCCLUSION_FACTOR;
+                    }
+
+                    influence += temp * KERNEL[i] * attenuation;
+                    sources += attenuation;
                 }
             }
         }
 
+        if (scan != null) {
+            scan.sources = found;
+        }
+
+        // Sources beyond the scan window, from the coarse heat summary and ignoring walls
+        double farField = farFieldSample - nearFarField;
+        return combineBlockInfluence(influence, sources, farField);
+    }
+
+    /**
+     * Combines the summed near-field terms of a block scan with the far field.
+     *
+     * @param influence The kernel and occlusion weighted sum of nearby source temperatures
+     * @param sources   The occlusion weighted number of nearby sources
+     * @param farField  The far-field heat with the scanned sources already removed
+     */
+    static double combineBlockInfluence(double influence, double sources, double farField) {
         // Diminishing effect: only strong if multiple blocks
-        int totalSources = heatSources + coldSources;
-        if (totalSources > 0) {
-            double factor = Math.min(1.0, totalSources / 3.0);
+        if (sources > 0) {
+            double factor = Math.min(1.0, sources / 3.0);
             influence *= factor;
         }
 
-        return influence;
+        return influence + clamp(farField, -FAR_FIELD_CAP, FAR_FIELD_CAP);
+    }
+
+    /**
+     * Counts the opaque blocks strictly between two block centers using a 3D DDA
+     * over the cached section opacity bitsets.
+     */
+    static int countOccluders(ChunkTemperatureCache cache, int x0, int y0, int z0,
+                                      int x1, int y1, int z1) {
+        int dx = x1 - x0;
+        int dy = y1 - y0;
+        int dz = z1 - z0;
+        int steps = Math.abs(dx) + Math.abs(dy) + Math.abs(dz);
+        if (steps <= 1) return 0;
+
+        int stepX = Integer.signum(dx);
+        int stepY = Integer.signum(dy);
+        int stepZ = Integer.signum(dz);
+
+        // Ray parameter t runs from 0 at the source center to 1 at the target center
+        double deltaX = dx != 0 ? 1.0 / Math.abs(dx) : Double.POSITIVE_INFINITY;
+        double deltaY = dy != 0 ? 1.0 / Math.abs(dy) : Double.POSITIVE_INFINITY;
+        double deltaZ = dz != 0 ? 1.0 / Math.abs(dz) : Double.POSITIVE_INFINITY;
+        double maxX = deltaX * 0.5;
+        double maxY = deltaY * 0.5;
+        double maxZ = deltaZ * 0.5;
+
+        int x = x0, y = y0, z = z0;
+        int occluders = 0;
+
+        // The last step lands on the target, which is never counted
+        for (int i = 1; i < steps; i++) {
+            if (maxX <= maxY && maxX <= maxZ) {
+                x += stepX;
+                maxX += deltaX;
+            } else if (maxY <= maxZ) {
+                y += stepY;
+                maxY += deltaY;
+            } else {
+                z += stepZ;
+                maxZ += deltaZ;
+            }
+
+            if (cache.isOpaque(x, y, z)) {
+                occluders++;
+            }
+        }
+
+        return occluders;
     }
 
-    private static double getEnvironmentalModifiers(World world, BlockPos pos) {
+    private static double getEnvironmentalModifiers(ClimateFrame frame, BlockPos pos) {
+        World world = frame.world;
         double modifier = 0;
 
-        if (isUnderRoof(world, pos)) {
-            modifier += 5.0;
+        double exposure;
+        double shelter;
+        if (frame.hasSkyLight) {
+            exposure = getSkyExposure(world, pos);
+            shelter = 1.0 - exposure;
+        } else {
+            // No sky to be exposed to, but a roof close overhead still counts as cover
+            exposure = EXPOSURE_OPEN;
+            shelter = isUnderRoof(world, pos) ? 1.0 : 0.0;
         }
+        modifier += SHELTER_BONUS * shelter;
 
-        if (world.isThundering()) modifier -= 12.0;
-        else if (world.isRaining()) modifier -= 8.0;
+        // Without a sky every position reads as open, so any of them may be in a room
+        if ((!frame.hasSkyLight || exposure < EXPOSURE_OPEN) && world instanceof ServerWorld serverWorld) {
+            modifier += getRoomInsulation(serverWorld, pos);
+        }
+
+        // Weather cools less the more sheltered the position is
+        double weatherExposure = Math.max(MIN_WEATHER_EXPOSURE, exposure);
+        modifier -= frame.weatherCooling * weatherExposure;
 
         if (pos.getY() < 50) modifier += 3.0;
 
@@ -188,16 +468,81 @@ public class TemperatureUtil {
         return modifier;
     }
 
+    /**
+     * Gets how exposed a position is to the sky, from the chunk's MOTION_BLOCKING
+     * heightmap and the sky light level. No blocks are probed.
+     *
+     * @return {@link #EXPOSURE_OPEN} under open sky, {@link #EXPOSURE_ENCLOSED} when fully
+     * enclosed, or a value in between for partial cover such as overhangs and open doorways
+     */
+    public static double getSkyExposure(World world, BlockPos pos) {
+        // Nothing to shelter from in dimensions without a sky
+        if (!world.getDimension().hasSkyLight()) {
+            return EXPOSURE_OPEN;
+        }
+
+        int surfaceY = world.getTopY(Heightmap.Type.MOTION_BLOCKING, pos.getX(), pos.getZ());
+        if (pos.getY() >= surfaceY) {
+            return EXPOSURE_OPEN;
+        }
+
+        // Covered: sky light leaking in sideways means the cover is only partial
+        int skyLight = world.getLightLevel(LightType.SKY, pos);
+        return PARTIAL_EXPOSURE_MAX * skyLight / 15.0;
+    }
+
+    /**
+     * Warmth from being inside a sealed room. Heat sources in the room are spread
+     * over its volume, so a furnace warms a small hut far more than a large hall.
+     */
+    /**
+     * Whether an opaque block is within {@code ROOF_SEARCH_HEIGHT} blocks above a
+     * position, the cover check for dimensions without a sky.
+     */
     private static boolean isUnderRoof(World world, BlockPos pos) {
-        for (int y = 1; y <= 5; y++) {
-            BlockPos checkPos = pos.up(y);
-            BlockState state = world.getBlockState(checkPos);
-            if (!state.isAir() && state.isOpaque()) return true;
+        BlockPos.Mutable check = new BlockPos.Mutable();
+        for (int y = 1; y <= ROOF_SEARCH_HEIGHT; y++) {
+            check.set(pos.getX(), pos.getY() + y, pos.getZ());
+            if (world.getBlockState(check).isOpaque()) return true;
         }
         return false;
     }
 
-    private static double clamp(double value, double min, double max) {
+    private static double getRoomInsulation(ServerWorld world, BlockPos pos) {
+        Room room = RoomDetector.get(world).getRoom(pos);
+        if (room == null || !room.isSealed()) {
+            return 0.0;
+        }
+
+        double sourceHeat = room.getHeatOutput() * ROOM_HEAT_FACTOR / Math.max(MIN_ROOM_VOLUME, room.getVolume());
+        return ROOM_INSULATION_BONUS + clamp(sourceHeat, -ROOM_HEAT_CAP, ROOM_HEAT_CAP);
+    }
+
+    private static double[] buildKernel() {
+        int width = MEDIUM_RADIUS * 2 + 1;
+        double[] kernel = new double[width * width * width];
+
+        int i = 0;
+        for (int x = -MEDIUM_RADIUS; x <= MEDIUM_RADIUS; x++) {
+            for (int y = -MEDIUM_RADIUS; y <= MEDIUM_RADIUS; y++) {
+                for (int z = -MEDIUM_RADIUS; z <= MEDIUM_RADIUS; z++, i++) {
+                    if (x == 0 && y == 0 && z == 0) {
+                        kernel[i] = CLOSE_WEIGHT * POSITION_MULTIPLIER;
+                    } else if (x == 0 && y == -1 && z == 0) {
+                        kernel[i] = CLOSE_WEIGHT * FEET_MULTIPLIER;
+                    } else if (Math.abs(x) <= CLOSE_RADIUS && Math.abs(y) <= CLOSE_RADIUS && Math.abs(z) <= CLOSE_RADIUS) {
+                        kernel[i] = CLOSE_WEIGHT;
+                    } else {
+                        kernel[i] = MEDIUM_WEIGHT / Math.sqrt(x * x + y * y + z * z);
+                    }
+                }
+            }
+        }
+
+        return kernel;
+    }
+
+    static double clamp(double value, double min, double max) {
         return Math.max(min, Math.min(max, value));
     }
 
@@ -210,14 +555,18 @@ public class TemperatureUtil {
         return TemperatureRegistry.getTemperature(world.getBlockState(pos));
     }
 
-    private static Double getZoneTemperature(ServerWorld world, BlockPos pos) {
-        TemperatureZoneManager manager = TemperatureZoneManager.get(world);
-        List<TemperatureZone> zones = manager.getZonesAt(pos);
-
-        if (zones.isEmpty()) {
-            return null;
-        }
+    private static List<TemperatureZone> getZonesAt(ClimateFrame frame, BlockPos pos) {
+        long time = TemperatureProfiler.start();
+        List<TemperatureZone> zones = frame.zones.getZonesAt(pos);
+        TemperatureProfiler.end(frame.world, TemperatureProfiler.Phase.ZONE_LOOKUP, time);
+        return zones;
+    }
 
+    /**
+     * @param zones          The enabled zones containing the position, highest priority first
+     * @param blockInfluence The raw block influence if already known, or NaN to scan for it
+     */
+    static double applyZones(ClimateFrame frame, BlockPos pos, List<TemperatureZone> zones, double blockInfluence) {
         // Get highest priority zone
         TemperatureZone primaryZone = zones.get(0);
 
@@ -229,18 +578,8 @@ public class TemperatureUtil {
                 return primaryZone.getTemperatureAt(pos);
 
             case ADDITIVE:
-                // Additive zones modify the base temperature
-                double baseTemp = getBaseTemperature(world, pos) * BIOME_WEIGHT;
-                double blockInfluence = getNearbyBlockInfluence(world, pos) * BLOCK_WEIGHT;
-                double environmentMod = getEnvironmentalModifiers(world, pos);
-                double naturalTemp = baseTemp + blockInfluence + environmentMod;
-
-                // Apply seasonal effects to natural temperature
-                SeasonManager seasonManager = SeasonManager.get(world);
-                if (seasonManager.isEnabled()) {
-                    naturalTemp *= seasonManager.getSeasonalTemperatureMultiplier();
-                    naturalTemp += seasonManager.getSeasonalTemperatureModifier();
-                }
+                // Additive zones modify the natural temperature, seasons included
+                double naturalTemp = getNaturalTemperature(frame, pos, blockInfluence);
 
                 // Add all additive zone effects
                 double zoneModifier = 0;
@@ -253,24 +592,12 @@ public class TemperatureUtil {
                 return naturalTemp + zoneModifier;
 
             case MULTIPLIER:
-                // Multiplier zones scale the natural temperature
-                double naturalTemp2 = getBaseTemperature(world, pos) * BIOME_WEIGHT;
-                naturalTemp2 += getNearbyBlockInfluence(world, pos) * BLOCK_WEIGHT;
-                naturalTemp2 += getEnvironmentalModifiers(world, pos);
-
-                // Apply seasonal effects first
-                SeasonManager seasonManager2 = SeasonManager.get(world);
-                if (seasonManager2.isEnabled()) {
-                    naturalTemp2 *= seasonManager2.getSeasonalTemperatureMultiplier();
-                    naturalTemp2 += seasonManager2.getSeasonalTemperatureModifier();
-                }
-
-                // Then apply zone multiplier
+                // Multiplier zones scale the natural temperature, after seasons
                 double multiplier = primaryZone.getTemperatureAt(pos) / 100.0; // Zone temp as percentage
-                return naturalTemp2 * multiplier;
+                return getNaturalTemperature(frame, pos, blockInfluence) * multiplier;
 
             default:
-                return null;
+                return Double.NaN;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package net.IneiTsuki.temperaturem.zones;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.math.Box;
+
+/**
+ * An axis-aligned box, the original zone shape.
+ */
+public final class BoxShape implements ZoneShape {
+
+    static final String TYPE = "box";
+
+    private final Box box;
+
+    public BoxShape(Box box) {
+        this.box = box;
+    }
+
+    @Override
+    public Box getBounds() {
+        return box;
+    }
+
+    @Override
+    public double getSignedDistance(double x, double y, double z) {
+        double dx = Math.max(box.minX - x, x - box.maxX);
+        double dy = Math.max(box.minY - y, y - box.maxY);
+        double dz = Math.max(box.minZ - z, z - box.maxZ);
+
+        double outside = Math.sqrt(square(Math.max(dx, 0)) + square(Math.max(dy, 0)) + square(Math.max(dz, 0)));
+        double inside = Math.min(Math.max(dx, Math.max(dy, dz)), 0);
+        return outside + inside;
+    }
+
+    @Override
+    public boolean contains(double x, double y, double z) {
+        return x > box.minX && x < box.maxX && y > box.minY && y < box.maxY && z > box.minZ && z < box.maxZ;
+    }
+
+    @Override
+    public double getVolume() {
+        return (box.maxX - box.minX) * (box.maxY - box.minY) * (box.maxZ - box.minZ);
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    @Override
+    public NbtCompound toNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putString("Type", TYPE);
+        nbt.putDouble("MinX", box.minX);
+        nbt.putDouble("MinY", box.minY);
+        nbt.putDouble("MinZ", box.minZ);
+        nbt.putDouble("MaxX", box.maxX);
+        nbt.putDouble("MaxY", box.maxY);
+        nbt.putDouble("MaxZ", box.maxZ);
+        return nbt;
+    }
+
+    static BoxShape fromNbt(NbtCompound nbt) {
+        return new BoxShape(new Box(
+                nbt.getDouble("MinX"), nbt.getDouble("MinY"), nbt.getDouble("MinZ"),
+                nbt.getDouble("MaxX"), nbt.getDouble("MaxY"), nbt.getDouble("MaxZ")));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Box[(%.0f, %.0f, %.0f) to (%.0f, %.0f, %.0f)]",
+                box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ);
+    }
+}
@@ -0,0 +1,98 @@
+package net.IneiTsuki.temperaturem.zones;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.math.Box;
+
+/**
+ * A vertical cylinder, for towers, shafts and crater cores.
+ */
+public final class CylinderShape implements ZoneShape {
+
+    static final String TYPE = "cylinder";
+
+    private final double centerX;
+    private final double centerZ;
+    private final double radius;
+    private final double radiusSq;
+    private final double minY;
+    private final double maxY;
+    private final Box bounds;
+
+    public CylinderShape(double centerX, double centerZ, double radius, double minY, double maxY) {
+        if (!(radius > 0)) {
+            throw new IllegalArgumentException("Cylinder radius must be positive, got " + radius);
+        }
+        if (!(maxY > minY)) {
+            throw new IllegalArgumentException("Cylinder top must be above its base");
+        }
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        this.radiusSq = radius * radius;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.bounds = new Box(centerX - radius, minY, centerZ - radius, centerX + radius, maxY, centerZ + radius);
+    }
+
+    @Override
+    public Box getBounds() {
+        return bounds;
+    }
+
+    @Override
+    public double getSignedDistance(double x, double y, double z) {
+        double dx = x - centerX;
+        double dz = z - centerZ;
+        double planar = Math.sqrt(dx * dx + dz * dz) - radius;
+        return extrude(planar, Math.max(minY - y, y - maxY));
+    }
+
+    @Override
+    public boolean contains(double x, double y, double z) {
+        if (y <= minY || y >= maxY) return false;
+        double dx = x - centerX;
+        double dz = z - centerZ;
+        return dx * dx + dz * dz < radiusSq;
+    }
+
+    @Override
+    public double getVolume() {
+        return Math.PI * radiusSq * (maxY - minY);
+    }
+
+    /**
+     * Combines the signed distance to a horizontal outline with the signed distance to
+     * the top and bottom faces into the distance to the extruded solid.
+     */
+    static double extrude(double planar, double vertical) {
+        if (planar < 0 && vertical < 0) {
+            return Math.max(planar, vertical);
+        }
+        double outsidePlanar = Math.max(planar, 0);
+        double outsideVertical = Math.max(vertical, 0);
+        return Math.sqrt(outsidePlanar * outsidePlanar + outsideVertical * outsideVertical);
+    }
+
+    @Override
+    public NbtCompound toNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putString("Type", TYPE);
+        nbt.putDouble("CenterX", centerX);
+        nbt.putDouble("CenterZ", centerZ);
+        nbt.putDouble("Radius", radius);
+        nbt.putDouble("MinY", minY);
+        nbt.putDouble("MaxY", maxY);
+        return nbt;
+    }
+
+    static CylinderShape fromNbt(NbtCompound nbt) {
+        return new CylinderShape(nbt.getDouble("CenterX"), nbt.getDouble("CenterZ"), nbt.getDouble("Radius"),
+                nbt.getDouble("MinY"), nbt.getDouble("MaxY"));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Cylinder[center=(%.1f, %.1f), radius=%.1f, y=%.0f to %.0f]",
+                centerX, centerZ, radius, minY, maxY);
+    }
+}
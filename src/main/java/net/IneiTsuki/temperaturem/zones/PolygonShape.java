@@ -0,0 +1,182 @@
+package net.IneiTsuki.temperaturem.zones;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.util.math.Box;
+
+/**
+ * A polygon in the horizontal plane extruded between two heights, for craters, walls
+ * and irregular buildings. The outline may be concave but must not cross itself.
+ * <p>
+ * Each edge is stored once in a flat table with everything the two tests need
+ * precomputed: its start, its direction, the inverse squared length for projecting a
+ * point onto it and the x step per unit z for the crossing test. Containment is an
+ * even-odd crossing count over the table after a bounding box check, with no divisions
+ * or square roots.
+ */
+public final class PolygonShape implements ZoneShape {
+
+    static final String TYPE = "polygon";
+
+    // Edge table layout, STRIDE doubles per edge
+    private static final int X = 0;
+    private static final int Z = 1;
+    private static final int DX = 2;
+    private static final int DZ = 3;
+    private static final int INV_LENGTH_SQ = 4;
+    private static final int X_PER_Z = 5;
+    private static final int STRIDE = 6;
+
+    private final double[] xs;
+    private final double[] zs;
+    private final double minY;
+    private final double maxY;
+    private final double[] edges;
+    private final Box bounds;
+    private final double area;
+
+    /**
+     * @param xs   Vertex x coordinates, in order around the outline
+     * @param zs   Vertex z coordinates, matching {@code xs}
+     * @param minY Bottom of the extrusion
+     * @param maxY Top of the extrusion
+     */
+    public PolygonShape(double[] xs, double[] zs, double minY, double maxY) {
+        if (xs.length != zs.length) {
+            throw new IllegalArgumentException("Vertex coordinate arrays differ in length");
+        }
+        if (xs.length < 3) {
+            throw new IllegalArgumentException("A polygon needs at least 3 vertices, got " + xs.length);
+        }
+        if (!(maxY > minY)) {
+            throw new IllegalArgumentException("Polygon top must be above its base");
+        }
+
+        this.xs = xs.clone();
+        this.zs = zs.clone();
+        this.minY = minY;
+        this.maxY = maxY;
+
+        int count = xs.length;
+        this.edges = new double[count * STRIDE];
+        double minX = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+        double doubleArea = 0;
+
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            double dx = xs[next] - xs[i];
+            double dz = zs[next] - zs[i];
+            double lengthSq = dx * dx + dz * dz;
+
+            int e = i * STRIDE;
+            edges[e + X] = xs[i];
+            edges[e + Z] = zs[i];
+            edges[e + DX] = dx;
+            edges[e + DZ] = dz;
+            edges[e + INV_LENGTH_SQ] = lengthSq > 0 ? 1.0 / lengthSq : 0.0;
+            edges[e + X_PER_Z] = dz != 0 ? dx / dz : 0.0; // Horizontal edges never cross a z line
+
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minZ = Math.min(minZ, zs[i]);
+            maxZ = Math.max(maxZ, zs[i]);
+            doubleArea += xs[i] * zs[next] - xs[next] * zs[i];
+        }
+
+        this.bounds = new Box(minX, minY, minZ, maxX, maxY, maxZ);
+        this.area = Math.abs(doubleArea) / 2.0;
+    }
+
+    @Override
+    public Box getBounds() {
+        return bounds;
+    }
+
+    @Override
+    public double getSignedDistance(double x, double y, double z) {
+        double nearestSq = Double.POSITIVE_INFINITY;
+        for (int e = 0; e < edges.length; e += STRIDE) {
+            double px = x - edges[e + X];
+            double pz = z - edges[e + Z];
+            double t = (px * edges[e + DX] + pz * edges[e + DZ]) * edges[e + INV_LENGTH_SQ];
+            t = t < 0 ? 0 : t > 1 ? 1 : t;
+            double qx = px - edges[e + DX] * t;
+            double qz = pz - edges[e + DZ] * t;
+            nearestSq = Math.min(nearestSq, qx * qx + qz * qz);
+        }
+
+        double planar = Math.sqrt(nearestSq);
+        if (containsOutline(x, z)) {
+            planar = -planar;
+        }
+        return CylinderShape.extrude(planar, Math.max(minY - y, y - maxY));
+    }
+
+    @Override
+    public boolean contains(double x, double y, double z) {
+        if (y <= minY || y >= maxY) return false;
+        if (x <= bounds.minX || x >= bounds.maxX || z <= bounds.minZ || z >= bounds.maxZ) return false;
+        return containsOutline(x, z);
+    }
+
+    private boolean containsOutline(double x, double z) {
+        boolean inside = false;
+        for (int e = 0; e < edges.length; e += STRIDE) {
+            double z0 = edges[e + Z];
+            double z1 = z0 + edges[e + DZ];
+            if ((z0 > z) != (z1 > z)) {
+                double crossX = edges[e + X] + (z - z0) * edges[e + X_PER_Z];
+                if (x < crossX) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    @Override
+    public double getVolume() {
+        return area * (maxY - minY);
+    }
+
+    public int getVertexCount() {
+        return xs.length;
+    }
+
+    @Override
+    public NbtCompound toNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putString("Type", TYPE);
+        nbt.putDouble("MinY", minY);
+        nbt.putDouble("MaxY", maxY);
+
+        NbtList vertices = new NbtList();
+        for (int i = 0; i < xs.length; i++) {
+            NbtCompound vertex = new NbtCompound();
+            vertex.putDouble("X", xs[i]);
+            vertex.putDouble("Z", zs[i]);
+            vertices.add(vertex);
+        }
+        nbt.put("Vertices", vertices);
+        return nbt;
+    }
+
+    static PolygonShape fromNbt(NbtCompound nbt) {
+        NbtList vertices = nbt.getList("Vertices", NbtElement.COMPOUND_TYPE);
+        double[] xs = new double[vertices.size()];
+        double[] zs = new double[vertices.size()];
+        for (int i = 0; i < vertices.size(); i++) {
+            NbtCompound vertex = vertices.getCompound(i);
+            xs[i] = vertex.getDouble("X");
+            zs[i] = vertex.getDouble("Z");
+        }
+        return new PolygonShape(xs, zs, nbt.getDouble("MinY"), nbt.getDouble("MaxY"));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Polygon[%d vertices, y=%.0f to %.0f]", xs.length, minY, maxY);
+    }
+}
@@ -0,0 +1,79 @@
+package net.IneiTsuki.temperaturem.zones;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.math.Box;
+
+/**
+ * A sphere, for domes and heat bubbles.
+ */
+public final class SphereShape implements ZoneShape {
+
+    static final String TYPE = "sphere";
+
+    private final double centerX;
+    private final double centerY;
+    private final double centerZ;
+    private final double radius;
+    private final double radiusSq;
+    private final Box bounds;
+
+    public SphereShape(double centerX, double centerY, double centerZ, double radius) {
+        if (!(radius > 0)) {
+            throw new IllegalArgumentException("Sphere radius must be positive, got " + radius);
+        }
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        this.radiusSq = radius * radius;
+        this.bounds = new Box(centerX - radius, centerY - radius, centerZ - radius,
+                centerX + radius, centerY + radius, centerZ + radius);
+    }
+
+    @Override
+    public Box getBounds() {
+        return bounds;
+    }
+
+    @Override
+    public double getSignedDistance(double x, double y, double z) {
+        double dx = x - centerX;
+        double dy = y - centerY;
+        double dz = z - centerZ;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz) - radius;
+    }
+
+    @Override
+    public boolean contains(double x, double y, double z) {
+        double dx = x - centerX;
+        double dy = y - centerY;
+        double dz = z - centerZ;
+        return dx * dx + dy * dy + dz * dz < radiusSq;
+    }
+
+    @Override
+    public double getVolume() {
+        return 4.0 / 3.0 * Math.PI * radiusSq * radius;
+    }
+
+    @Override
+    public NbtCompound toNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putString("Type", TYPE);
+        nbt.putDouble("CenterX", centerX);
+        nbt.putDouble("CenterY", centerY);
+        nbt.putDouble("CenterZ", centerZ);
+        nbt.putDouble("Radius", radius);
+        return nbt;
+    }
+
+    static SphereShape fromNbt(NbtCompound nbt) {
+        return new SphereShape(nbt.getDouble("CenterX"), nbt.getDouble("CenterY"), nbt.getDouble("CenterZ"),
+                nbt.getDouble("Radius"));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Sphere[center=(%.1f, %.1f, %.1f), radius=%.1f]", centerX, centerY, centerZ, radius);
+    }
+}
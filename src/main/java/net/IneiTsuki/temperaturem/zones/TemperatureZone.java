@@ -10,7 +10,7 @@ public class TemperatureZone {
 
     private final UUID id;
     private String name;
-    private Box bounds;
+    private ZoneShape shape;
     private double temperature;
     private ZoneType type;
     private int priority;
@@ -22,9 +22,13 @@ public class TemperatureZone {
     private boolean affectsMobs;
 
     public TemperatureZone(UUID id, String name, Box bounds, double temperature, ZoneType type) {
+        this(id, name, new BoxShape(bounds), temperature, type);
+    }
+
+    public TemperatureZone(UUID id, String name, ZoneShape shape, double temperature, ZoneType type) {
         this.id = id;
         this.name = name;
-        this.bounds = bounds;
+        this.shape = shape;
         this.temperature = temperature;
         this.type = type;
         this.priority = 0;
@@ -48,12 +52,26 @@ public class TemperatureZone {
         this.name = name;
     }
 
+    /**
+     * Gets the bounding box of the zone's shape. For box zones this is the shape itself.
+     */
     public Box getBounds() {
-        return bounds;
+        return shape.getBounds();
     }
 
+    /**
+     * Replaces the zone's shape with a box.
+     */
     public void setBounds(Box bounds) {
-        this.bounds = bounds;
+        this.shape = new BoxShape(bounds);
+    }
+
+    public ZoneShape getShape() {
+        return shape;
+    }
+
+    public void setShape(ZoneShape shape) {
+        this.shape = shape;
     }
 
     public double getTemperature() {
@@ -114,24 +132,31 @@ public class TemperatureZone {
 
     // ===== Zone Logic =====
 
+    /**
+     * Whether a block is inside the zone, tested at the block's center.
+     */
     public boolean contains(BlockPos pos) {
-        return bounds.contains(pos.getX(), pos.getY(), pos.getZ());
+        return shape.contains(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
     }
 
     public boolean contains(double x, double y, double z) {
-        return bounds.contains(x, y, z);
+        return shape.contains(x, y, z);
     }
 
     public double getTemperatureAt(BlockPos pos) {
         if (!enabled) return 0.0;
-        if (!contains(pos)) return 0.0;
+
+        double x = pos.getX() + 0.5;
+        double y = pos.getY() + 0.5;
+        double z = pos.getZ() + 0.5;
 
         if (transitionRange <= 0 || type == ZoneType.ABSOLUTE) {
-            return temperature;
+            return shape.contains(x, y, z) ? temperature : 0.0;
         }
 
-        // Calculate distance to nearest edge
-        double distToEdge = getDistanceToEdge(pos);
+        // Depth inside the zone is the distance to the nearest edge
+        double distToEdge = -shape.getSignedDistance(x, y, z);
+        if (distToEdge <= 0) return 0.0;
 
         if (distToEdge >= transitionRange) {
             return temperature;
@@ -144,27 +169,16 @@ public class TemperatureZone {
         return temperature * smoothT;
     }
 
-    private double getDistanceToEdge(BlockPos pos) {
-        double x = pos.getX();
-        double y = pos.getY();
-        double z = pos.getZ();
-
-        double dx = Math.min(x - bounds.minX, bounds.maxX - x);
-        double dy = Math.min(y - bounds.minY, bounds.maxY - y);
-        double dz = Math.min(z - bounds.minZ, bounds.maxZ - z);
-
-        return Math.min(dx, Math.min(dy, dz));
-    }
-
+    /**
+     * Whether the bounding boxes of two zones intersect. Exact for box zones,
+     * conservative for other shapes.
+     */
     public boolean overlaps(TemperatureZone other) {
-        return this.bounds.intersects(other.bounds);
+        return getBounds().intersects(other.getBounds());
     }
 
     public long getVolume() {
-        double dx = bounds.maxX - bounds.minX;
-        double dy = bounds.maxY - bounds.minY;
-        double dz = bounds.maxZ - bounds.minZ;
-        return (long) (dx * dy * dz);
+        return (long) shape.getVolume();
     }
 
     // ===== NBT Serialization =====
@@ -182,7 +196,10 @@ public class TemperatureZone {
         nbt.putBoolean("AffectsPlayers", affectsPlayers);
         nbt.putBoolean("AffectsMobs", affectsMobs);
 
-        // Bounds
+        nbt.put("Shape", shape.toNbt());
+
+        // Bounds, kept so zones still load as their bounding box in older versions
+        Box bounds = shape.getBounds();
         NbtCompound boundsNbt = new NbtCompound();
         boundsNbt.putDouble("MinX", bounds.minX);
         boundsNbt.putDouble("MinY", bounds.minY);
@@ -201,17 +218,23 @@ public class TemperatureZone {
         double temperature = nbt.getDouble("Temperature");
         ZoneType type = ZoneType.valueOf(nbt.getString("Type"));
 
-        NbtCompound boundsNbt = nbt.getCompound("Bounds");
-        Box bounds = new Box(
-                boundsNbt.getDouble("MinX"),
-                boundsNbt.getDouble("MinY"),
-                boundsNbt.getDouble("MinZ"),
-                boundsNbt.getDouble("MaxX"),
-                boundsNbt.getDouble("MaxY"),
-                boundsNbt.getDouble("MaxZ")
-        );
-
-        TemperatureZone zone = new TemperatureZone(id, name, bounds, temperature, type);
+        ZoneShape shape;
+        if (nbt.contains("Shape")) {
+            shape = ZoneShape.fromNbt(nbt.getCompound("Shape"));
+        } else {
+            // Saved before zone shapes existed
+            NbtCompound boundsNbt = nbt.getCompound("Bounds");
+            shape = new BoxShape(new Box(
+                    boundsNbt.getDouble("MinX"),
+                    boundsNbt.getDouble("MinY"),
+                    boundsNbt.getDouble("MinZ"),
+                    boundsNbt.getDouble("MaxX"),
+                    boundsNbt.getDouble("MaxY"),
+                    boundsNbt.getDouble("MaxZ")
+            ));
+        }
+
+        TemperatureZone zone = new TemperatureZone(id, name, shape, temperature, type);
         zone.setPriority(nbt.getInt("Priority"));
         zone.setEnabled(nbt.getBoolean("Enabled"));
         zone.setTransitionRange(nbt.getDouble("TransitionRange"));
@@ -1,11 +1,19 @@
 package net.IneiTsuki.temperaturem.zones;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.IneiTsuki.temperaturem.Temperaturem;
+import net.IneiTsuki.temperaturem.api.event.TemperatureZoneEvents;
+import net.IneiTsuki.temperaturem.profiling.TemperatureProfiler;
+import net.IneiTsuki.temperaturem.profiling.jfr.TemperatureEvents;
+import net.IneiTsuki.temperaturem.profiling.jfr.ZoneLookupEvent;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtList;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.PersistentState;
 
 import java.util.*;
@@ -20,11 +28,22 @@ public class TemperatureZoneManager extends PersistentState {
     private final Map<UUID, TemperatureZone> zones = new ConcurrentHashMap<>();
     private final ServerWorld world;
 
+    // Zones overlapping each chunk column for lookups, rebuilt whenever zones change
+    private volatile ZoneIndex index = ZoneIndex.EMPTY;
+    private static final int MAX_BUCKETS_PER_ZONE = 1024; // Larger zones are candidates everywhere
+
+    // Zones each player is in, updated when they cross a block boundary or zones change
+    private final Map<UUID, Membership> memberships = new ConcurrentHashMap<>();
+    private int zoneVersion = 0;
+
     // Cache for zone lookups by position
     private final Map<BlockPos, List<TemperatureZone>> positionCache = new ConcurrentHashMap<>();
     private int cacheClearCounter = 0;
     private static final int CACHE_CLEAR_INTERVAL = 200; // Clear cache every 10 seconds
 
+    private static final Comparator<TemperatureZone> PRIORITY_ORDER =
+            (z1, z2) -> Integer.compare(z2.getPriority(), z1.getPriority());
+
     public TemperatureZoneManager(ServerWorld world) {
         this.world = world;
     }
@@ -43,6 +62,13 @@ public class TemperatureZoneManager extends PersistentState {
         });
     }
 
+    /**
+     * Gets the manager for a world without loading it, or null if it is not loaded.
+     */
+    public static TemperatureZoneManager getIfLoaded(ServerWorld world) {
+        return INSTANCES.get(world);
+    }
+
     public static void clearInstances() {
         INSTANCES.clear();
     }
@@ -50,10 +76,14 @@ public class TemperatureZoneManager extends PersistentState {
     // ===== Zone Management =====
 
     public TemperatureZone createZone(String name, Box bounds, double temperature, TemperatureZone.ZoneType type) {
+        return createZone(name, new BoxShape(bounds), temperature, type);
+    }
+
+    public TemperatureZone createZone(String name, ZoneShape shape, double temperature, TemperatureZone.ZoneType type) {
         UUID id = UUID.randomUUID();
-        TemperatureZone zone = new TemperatureZone(id, name, bounds, temperature, type);
+        TemperatureZone zone = new TemperatureZone(id, name, shape, temperature, type);
         zones.put(id, zone);
-        clearPositionCache();
+        onZonesChanged();
         markDirty();
         Temperaturem.LOGGER.info("Created temperature zone: {}", zone);
         return zone;
@@ -61,14 +91,14 @@ public class TemperatureZoneManager extends PersistentState {
 
     public void addZone(TemperatureZone zone) {
         zones.put(zone.getId(), zone);
-        clearPositionCache();
+        onZonesChanged();
         markDirty();
     }
 
     public boolean removeZone(UUID id) {
         TemperatureZone removed = zones.remove(id);
         if (removed != null) {
-            clearPositionCache();
+            onZonesChanged();
             markDirty();
             Temperaturem.LOGGER.info("Removed temperature zone: {}", removed.getName());
             return true;
@@ -84,22 +114,199 @@ public class TemperatureZoneManager extends PersistentState {
         return Collections.unmodifiableCollection(zones.values());
     }
 
+    /**
+     * Gets the enabled zones containing a position, highest priority first. Positions
+     * outside every zone share one empty list and are not cached, so the common case
+     * allocates nothing.
+     */
     public List<TemperatureZone> getZonesAt(BlockPos pos) {
+        TemperatureZone[] candidates = index.getCandidates(pos.getX() >> 4, pos.getZ() >> 4);
+        if (candidates.length == 0) {
+            return Collections.emptyList();
+        }
+
+        if (TemperatureEvents.isZoneLookupEnabled()) {
+            return getZonesAtRecorded(candidates, pos);
+        }
+        return lookupZones(candidates, pos);
+    }
+
+    private List<TemperatureZone> getZonesAtRecorded(TemperatureZone[] candidates, BlockPos pos) {
+        ZoneLookupEvent event = new ZoneLookupEvent();
+        event.begin();
+        boolean cacheHit = positionCache.containsKey(pos);
+
+        List<TemperatureZone> result = lookupZones(candidates, pos);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.world = world.getRegistryKey().getValue().toString();
+            event.x = pos.getX();
+            event.y = pos.getY();
+            event.z = pos.getZ();
+            event.zoneCount = result.size();
+            event.cacheHit = cacheHit;
+            event.commit();
+        }
+        return result;
+    }
+
+    private List<TemperatureZone> lookupZones(TemperatureZone[] candidates, BlockPos pos) {
         // Check cache first
-        if (positionCache.containsKey(pos)) {
-            return positionCache.get(pos);
+        List<TemperatureZone> cached = positionCache.get(pos);
+        if (cached != null) {
+            TemperatureProfiler.count(world, TemperatureProfiler.Counter.ZONE_CACHE_HITS, 1);
+            return cached;
         }
+        TemperatureProfiler.count(world, TemperatureProfiler.Counter.ZONE_CACHE_MISSES, 1);
 
-        List<TemperatureZone> result = zones.values().stream()
-                .filter(zone -> zone.isEnabled() && zone.contains(pos))
-                .sorted((z1, z2) -> Integer.compare(z2.getPriority(), z1.getPriority()))
-                .collect(Collectors.toList());
+        List<TemperatureZone> result = null;
+        for (TemperatureZone zone : candidates) {
+            if (zone.isEnabled() && zone.contains(pos)) {
+                if (result == null) {
+                    result = new ArrayList<>(2);
+                }
+                result.add(zone);
+            }
+        }
+
+        if (result == null) {
+            return Collections.emptyList();
+        }
+
+        // Candidates are already in priority order
+        // Cache result, keys must not be mutable positions
+        positionCache.put(pos.toImmutable(), result);
+        return result;
+    }
+
+    /**
+     * Gets the enabled zones overlapping a chunk section, highest priority first, for
+     * callers that test many positions in the same section.
+     */
+    public List<TemperatureZone> getZonesInSection(int sectionX, int sectionY, int sectionZ) {
+        TemperatureZone[] candidates = index.getCandidates(sectionX, sectionZ);
+        if (candidates.length == 0) {
+            return Collections.emptyList();
+        }
 
-        // Cache result
-        positionCache.put(pos, result);
+        Box section = new Box(sectionX << 4, sectionY << 4, sectionZ << 4,
+                (sectionX + 1) << 4, (sectionY + 1) << 4, (sectionZ + 1) << 4);
+
+        List<TemperatureZone> result = null;
+        for (TemperatureZone zone : candidates) {
+            if (zone.isEnabled() && zone.getBounds().intersects(section)) {
+                if (result == null) {
+                    result = new ArrayList<>(2);
+                }
+                result.add(zone);
+            }
+        }
+
+        if (result == null) {
+            return Collections.emptyList();
+        }
         return result;
     }
 
+    // ===== Player Membership =====
+
+    /**
+     * Updates the zones a player is in and fires {@link TemperatureZoneEvents} for every
+     * zone entered or left. Only re-checks when the player moved to another block or
+     * zones changed since the last call, against the zones overlapping the player's
+     * chunk. Membership is kept in reused arrays, so an update allocates nothing.
+     */
+    public void updateMembership(ServerPlayerEntity player) {
+        Membership membership = memberships.computeIfAbsent(player.getUuid(), id -> new Membership());
+        BlockPos pos = player.getBlockPos();
+        long packed = pos.asLong();
+        if (packed == membership.pos && zoneVersion == membership.version) return;
+        membership.pos = packed;
+        membership.version = zoneVersion;
+
+        TemperatureZone[] candidates = index.getCandidates(pos.getX() >> 4, pos.getZ() >> 4);
+        TemperatureZone[] previous = membership.zones;
+        int previousCount = membership.count;
+        TemperatureZone[] current = membership.scratch;
+        if (current.length < candidates.length) {
+            current = new TemperatureZone[candidates.length];
+        }
+
+        int count = 0;
+        for (TemperatureZone zone : candidates) {
+            if (zone.isEnabled() && zone.contains(pos)) {
+                current[count++] = zone;
+            }
+        }
+
+        if (count == 0 && previousCount == 0) {
+            membership.scratch = current;
+            return;
+        }
+
+        // Publish before firing so callbacks see the new membership
+        membership.zones = current;
+        membership.count = count;
+        membership.scratch = previous;
+
+        for (int i = 0; i < previousCount; i++) {
+            if (!containsZone(current, count, previous[i])) {
+                TemperatureZoneEvents.EXITED.invoker().onZoneExited(player, previous[i]);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            if (!containsZone(previous, previousCount, current[i])) {
+                TemperatureZoneEvents.ENTERED.invoker().onZoneEntered(player, current[i]);
+            }
+        }
+        // Drop references to zones that may have been removed
+        Arrays.fill(previous, 0, previousCount, null);
+    }
+
+    /**
+     * Fires exit events for every zone a player was in and forgets the player, for
+     * players leaving this world.
+     */
+    public void leave(ServerPlayerEntity player) {
+        Membership membership = memberships.remove(player.getUuid());
+        if (membership == null) return;
+        for (int i = 0; i < membership.count; i++) {
+            TemperatureZoneEvents.EXITED.invoker().onZoneExited(player, membership.zones[i]);
+        }
+    }
+
+    /**
+     * Forgets a player without firing events, for players that disconnected.
+     */
+    public void forget(UUID playerId) {
+        memberships.remove(playerId);
+    }
+
+    /**
+     * Whether a player was inside a zone as of their last membership update.
+     */
+    public boolean isInZone(ServerPlayerEntity player, UUID zoneId) {
+        Membership membership = memberships.get(player.getUuid());
+        if (membership == null) return false;
+        for (int i = 0; i < membership.count; i++) {
+            if (membership.zones[i].getId().equals(zoneId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsZone(TemperatureZone[] zones, int count, TemperatureZone zone) {
+        for (int i = 0; i < count; i++) {
+            // A zone replaced under the same id is still the same zone
+            if (zones[i] == zone || zones[i].getId().equals(zone.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public Double getZoneTemperatureAt(BlockPos pos) {
         List<TemperatureZone> zonesAtPos = getZonesAt(pos);
         if (zonesAtPos.isEmpty()) {
@@ -140,6 +347,21 @@ public class TemperatureZoneManager extends PersistentState {
         positionCache.clear();
     }
 
+    /**
+     * Rebuilds the lookup structures after a zone's bounds, priority or enabled state
+     * changed, and saves the zones.
+     */
+    public void onZoneUpdated() {
+        onZonesChanged();
+        markDirty();
+    }
+
+    private void onZonesChanged() {
+        index = ZoneIndex.build(zones.values().toArray(new TemperatureZone[0]));
+        zoneVersion++;
+        clearPositionCache();
+    }
+
     public void tick() {
         cacheClearCounter++;
         if (cacheClearCounter >= CACHE_CLEAR_INTERVAL) {
@@ -177,6 +399,82 @@ public class TemperatureZoneManager extends PersistentState {
         return nbt;
     }
 
+    // ===== Index =====
+
+    /**
+     * Zones by the chunk columns their bounds overlap, each bucket in priority order.
+     * Zones covering more than {@link #MAX_BUCKETS_PER_ZONE} chunks are added to every
+     * bucket instead, and are the only candidates in chunks without a bucket. Immutable.
+     */
+    private static class ZoneIndex {
+        static final ZoneIndex EMPTY = new ZoneIndex(new Long2ObjectOpenHashMap<>(), new TemperatureZone[0]);
+
+        private final Long2ObjectOpenHashMap<TemperatureZone[]> buckets;
+        private final TemperatureZone[] large;
+
+        ZoneIndex(Long2ObjectOpenHashMap<TemperatureZone[]> buckets, TemperatureZone[] large) {
+            this.buckets = buckets;
+            this.large = large;
+        }
+
+        TemperatureZone[] getCandidates(int chunkX, int chunkZ) {
+            TemperatureZone[] bucket = buckets.get(ChunkPos.toLong(chunkX, chunkZ));
+            return bucket != null ? bucket : large;
+        }
+
+        static ZoneIndex build(TemperatureZone[] zones) {
+            Long2ObjectOpenHashMap<List<TemperatureZone>> lists = new Long2ObjectOpenHashMap<>();
+            List<TemperatureZone> large = new ArrayList<>();
+
+            for (TemperatureZone zone : zones) {
+                Box bounds = zone.getBounds();
+                int minX = (int) Math.floor(bounds.minX) >> 4;
+                int minZ = (int) Math.floor(bounds.minZ) >> 4;
+                int maxX = (int) Math.floor(bounds.maxX) >> 4;
+                int maxZ = (int) Math.floor(bounds.maxZ) >> 4;
+
+                if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > MAX_BUCKETS_PER_ZONE) {
+                    large.add(zone);
+                    continue;
+                }
+                for (int cx = minX; cx <= maxX; cx++) {
+                    for (int cz = minZ; cz <= maxZ; cz++) {
+                        long key = ChunkPos.toLong(cx, cz);
+                        List<TemperatureZone> bucket = lists.get(key);
+                        if (bucket == null) {
+                            bucket = new ArrayList<>(2);
+                            lists.put(key, bucket);
+                        }
+                        bucket.add(zone);
+                    }
+                }
+            }
+
+            Long2ObjectOpenHashMap<TemperatureZone[]> buckets = new Long2ObjectOpenHashMap<>(lists.size());
+            for (Long2ObjectMap.Entry<List<TemperatureZone>> entry : lists.long2ObjectEntrySet()) {
+                List<TemperatureZone> bucket = entry.getValue();
+                bucket.addAll(large);
+                bucket.sort(PRIORITY_ORDER);
+                buckets.put(entry.getLongKey(), bucket.toArray(new TemperatureZone[0]));
+            }
+
+            large.sort(PRIORITY_ORDER);
+            return new ZoneIndex(buckets, large.toArray(new TemperatureZone[0]));
+        }
+    }
+
+    /**
+     * The zones one player is in. {@code scratch} is the buffer the next update writes
+     * into, swapped with {@code zones} afterwards.
+     */
+    private static class Membership {
+        long pos = Long.MIN_VALUE;
+        int version = -1;
+        TemperatureZone[] zones = new TemperatureZone[4];
+        TemperatureZone[] scratch = new TemperatureZone[4];
+        int count = 0;
+    }
+
     public static TemperatureZoneManager fromNbt(ServerWorld world, NbtCompound nbt) {
         TemperatureZoneManager manager = new TemperatureZoneManager(world);
 
@@ -190,6 +488,8 @@ public class TemperatureZoneManager extends PersistentState {
             }
         }
 
+        manager.onZonesChanged();
+
         Temperaturem.LOGGER.info("Loaded {} temperature zones for world {}",
                 manager.zones.size(), world.getRegistryKey().getValue());
         return manager;
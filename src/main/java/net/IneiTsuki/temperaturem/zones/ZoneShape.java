@@ -0,0 +1,47 @@
+package net.IneiTsuki.temperaturem.zones;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.math.Box;
+
+/**
+ * The volume a {@link TemperatureZone} covers.
+ * <p>
+ * A shape is described by a signed distance function: negative inside, positive
+ * outside, with the magnitude being the distance to the nearest surface. Containment
+ * is its sign and the zone's edge transition uses the depth inside. The bounding box is
+ * used to cull zones before any exact test. Shapes are immutable.
+ */
+public interface ZoneShape {
+
+    /**
+     * Gets the smallest box containing the shape, for index culling.
+     */
+    Box getBounds();
+
+    /**
+     * Gets the distance from a point to the shape's surface, negative inside.
+     */
+    double getSignedDistance(double x, double y, double z);
+
+    /**
+     * Whether a point lies strictly inside the shape. Shapes override this with a test
+     * that avoids computing the exact distance.
+     */
+    default boolean contains(double x, double y, double z) {
+        return getSignedDistance(x, y, z) < 0;
+    }
+
+    double getVolume();
+
+    NbtCompound toNbt();
+
+    static ZoneShape fromNbt(NbtCompound nbt) {
+        return switch (nbt.getString("Type")) {
+            case BoxShape.TYPE -> BoxShape.fromNbt(nbt);
+            case SphereShape.TYPE -> SphereShape.fromNbt(nbt);
+            case CylinderShape.TYPE -> CylinderShape.fromNbt(nbt);
+            case PolygonShape.TYPE -> PolygonShape.fromNbt(nbt);
+            default -> throw new IllegalArgumentException("Unknown zone shape: " + nbt.getString("Type"));
+        };
+    }
+}